@@ -22,6 +22,7 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * When this class is used as the first argument of an interop method, Ballerina
@@ -59,6 +60,19 @@ public class Environment {
         return new Future(this.strand);
     }
 
+    /**
+     * Run the given blocking task (e.g. file, socket or JDBC I/O) on a separate elastic thread pool. Execution of
+     * Ballerina code after the current interop will stop until the task is completed, but the Ballerina scheduler
+     * thread is not held while the task runs. The value returned by the task becomes the return value of the interop
+     * call, and a {@link Throwable} thrown by it is returned as an error. The callee of this method must return
+     * immediately after calling it; the value it returns is ignored.
+     *
+     * @param task blocking task to be executed
+     */
+    public void executeBlocking(Supplier<Object> task) {
+        strand.scheduler.executeBlocking(strand, task);
+    }
+
     public Runtime getRuntime() {
         return new Runtime(strand.scheduler);
     }
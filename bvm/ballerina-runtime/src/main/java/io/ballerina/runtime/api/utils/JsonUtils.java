@@ -67,6 +67,17 @@ public class JsonUtils {
         return JsonParser.parse(in, charsetName);
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array and returns a json.
+     *
+     * @param utf8Bytes the byte array which contains the UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] utf8Bytes) throws BError {
+        return JsonParser.parse(utf8Bytes);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
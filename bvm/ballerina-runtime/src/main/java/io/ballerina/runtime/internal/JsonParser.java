@@ -20,12 +20,24 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import io.ballerina.runtime.internal.values.DecimalValue;
@@ -38,9 +50,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.List;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
 /**
  * This class represents a JSON parser.
@@ -111,6 +133,79 @@ public class JsonParser {
         return parse(new StringReader(jsonStr), mode);
     }
 
+    /**
+     * Parses the contents in the given string into a value of the target type in a single pass, without creating
+     * an intermediate json value. Records, maps, arrays and tuples of the target type are built while parsing,
+     * whereas the other values are parsed as json and converted to their target types by the given factory.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType the type of the value to create
+     * @param factory    the factory to create the values, which are not built by the parser
+     * @return value of the target type
+     * @throws BError for any parsing error or if the JSON content is not convertible to the target type
+     */
+    public static Object parse(String jsonStr, Type targetType, TypedValueFactory factory) throws BError {
+        StateMachine sm = acquireStateMachine();
+        sm.targetType = targetType;
+        sm.typedValueFactory = factory;
+        try {
+            return sm.execute(new StringReader(jsonStr));
+        } finally {
+            // Need to reset the state machine before leaving. Otherwise references to the created
+            // values will be maintained and the java GC will not happen properly.
+            releaseStateMachine(sm);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array and returns a json.
+     *
+     * @param utf8Bytes the byte array which contains the UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] utf8Bytes) throws BError {
+        return parse(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents remaining in the given byte buffer and returns a json. The bytes are
+     * decoded directly into the buffer of the parser, without going through a {@link Reader}.
+     *
+     * @param utf8Bytes the byte buffer which contains the UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer utf8Bytes) throws BError {
+        StateMachine sm = acquireStateMachine();
+        try {
+            return changeForBString(sm.execute(utf8Bytes));
+        } finally {
+            // Need to reset the state machine before leaving. Otherwise references to the created
+            // JSON values will be maintained and the java GC will not happen properly.
+            releaseStateMachine(sm);
+        }
+    }
+
+    /**
+     * Returns the state machine of the current thread, or a new one if it is used by a parse which has not completed.
+     * Parsing into a target type creates record values with their default values, whose initializers may parse JSON
+     * too.
+     */
+    private static StateMachine acquireStateMachine() {
+        StateMachine sm = tlStateMachine.get();
+        if (sm.inUse) {
+            sm = new StateMachine();
+        }
+        sm.inUse = true;
+        return sm;
+    }
+
+    private static void releaseStateMachine(StateMachine sm) {
+        sm.reset();
+        sm.inUse = false;
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -127,17 +222,43 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(Reader reader, JsonUtils.NonStringValueProcessingMode mode) throws BError {
-        StateMachine sm = tlStateMachine.get();
+        StateMachine sm = acquireStateMachine();
         sm.mode = mode;
         try {
             return sm.execute(reader);
         } finally {
             // Need to reset the state machine before leaving. Otherwise references to the created
             // JSON values will be maintained and the java GC will not happen properly.
-            sm.reset();
+            releaseStateMachine(sm);
         }
     }
 
+    /**
+     * Creates the values, which are not built by the parser itself, when parsing into a target type.
+     *
+     * @since 2.0.0
+     */
+    public interface TypedValueFactory {
+
+        /**
+         * Creates a value of a record type, with the default values of its fields.
+         *
+         * @param recordType record type
+         * @return record value
+         */
+        BMap<BString, Object> createRecordValue(RecordType recordType);
+
+        /**
+         * Converts a value parsed as json to the target type.
+         *
+         * @param jsonValue  json value
+         * @param targetType target type
+         * @return converted value
+         * @throws BError if the value is not convertible to the target type
+         */
+        Object convert(Object jsonValue, Type targetType) throws BError;
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -201,15 +322,42 @@ public class JsonParser {
                 new StringFieldUnicodeHexProcessingState();
         private static final State STRING_VALUE_UNICODE_HEX_PROCESSING_STATE =
                 new StringValueUnicodeHexProcessingState();
+        private static final Type JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+        // Must be a power of two
+        private static final int FIELD_NAME_CACHE_SIZE = 256;
+        private static final int MAX_INTERNED_FIELD_NAME_LENGTH = 64;
+        // Integers with up to this many digits are not out of the range of long
+        private static final int MAX_SAFE_LONG_DIGITS = 18;
         private JsonUtils.NonStringValueProcessingMode mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
 
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
-        private Deque<String> fieldNames;
+        private Deque<BString> fieldNames;
+
+        // Target type of the document, which is null when parsing into json
+        private Type targetType;
+        private TypedValueFactory typedValueFactory;
+        // Target type of the current node and its parent nodes
+        private Type currentTargetType;
+        private Deque<Type> targetTypesStack;
+        // Depth of the current node in a subtree, which is parsed as json and converted as a whole
+        private int jsonNodeDepth;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
         private int charBuffIndex;
+        private final char[] readBuff = new char[1024];
+        private final CharsetDecoder utf8Decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        // Field names repeat heavily across the elements of an array, hence the field names of a document are
+        // interned, so that the same string value is used for all the occurrences of a field name.
+        private final BString[] fieldNameCache = new BString[FIELD_NAME_CACHE_SIZE];
+        private boolean fieldNameCacheUsed;
+
+        // Whether a parse using this state machine has not completed yet
+        private boolean inUse;
 
         private int index;
         private int line;
@@ -222,12 +370,22 @@ public class JsonParser {
 
         public void reset() {
             this.index = 0;
+            this.charBuffIndex = 0;
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
             this.mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
+            this.targetType = null;
+            this.typedValueFactory = null;
+            this.currentTargetType = null;
+            this.targetTypesStack = new ArrayDeque<>();
+            this.jsonNodeDepth = 0;
+            if (this.fieldNameCacheUsed) {
+                Arrays.fill(this.fieldNameCache, null);
+                this.fieldNameCacheUsed = false;
+            }
         }
 
         private static boolean isWhitespace(char ch) {
@@ -250,27 +408,69 @@ public class JsonParser {
         public Object execute(Reader reader) throws BError {
             State currentState = DOC_START_STATE;
             try {
-                char[] buff = new char[1024];
+                char[] buff = this.readBuff;
                 int count;
                 while ((count = reader.read(buff)) > 0) {
-                    this.index = 0;
-                    while (this.index < count) {
-                        currentState = currentState.transition(this, buff, this.index, count);
-                    }
-                }
-                currentState = currentState.transition(this, new char[] { EOF }, 0, 1);
-                if (currentState != DOC_END_STATE) {
-                    throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+                    currentState = this.transition(currentState, buff, count);
                 }
-                return this.currentJsonNode;
+                return this.complete(currentState);
             } catch (IOException e) {
-                throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+                throw createError("Error reading JSON: " + e.getMessage());
             } catch (JsonParserException e) {
-                throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
-                                                                              "column: " + this.column));
+                throw createError(e.getMessage() + " at line: " + this.line + " " + "column: " + this.column);
             }
         }
 
+        public Object execute(ByteBuffer utf8Bytes) throws BError {
+            State currentState = DOC_START_STATE;
+            CharsetDecoder decoder = this.utf8Decoder.reset();
+            CharBuffer buff = CharBuffer.wrap(this.readBuff);
+            try {
+                CoderResult result;
+                do {
+                    buff.clear();
+                    // Malformed input is replaced, hence the result is either an overflow or an underflow
+                    result = decoder.decode(utf8Bytes, buff, true);
+                    if (result.isUnderflow()) {
+                        decoder.flush(buff);
+                    }
+                    currentState = this.transition(currentState, this.readBuff, buff.position());
+                } while (result.isOverflow());
+                return this.complete(currentState);
+            } catch (JsonParserException e) {
+                throw createError(e.getMessage() + " at line: " + this.line + " " + "column: " + this.column);
+            }
+        }
+
+        private State transition(State currentState, char[] buff, int count) throws JsonParserException {
+            this.index = 0;
+            while (this.index < count) {
+                currentState = currentState.transition(this, buff, this.index, count);
+            }
+            return currentState;
+        }
+
+        private Object complete(State currentState) throws JsonParserException {
+            currentState = currentState.transition(this, new char[] { EOF }, 0, 1);
+            if (currentState != DOC_END_STATE) {
+                throw createError("invalid JSON document");
+            }
+            return this.currentJsonNode;
+        }
+
+        private BError createError(String message) {
+            if (this.targetType == null) {
+                return ErrorCreator.createError(StringUtils.fromString(message));
+            }
+            // A string which is not a valid JSON document is not convertible to the target type
+            return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, StringUtils.fromString(message));
+        }
+
+        private BError createConversionError(Type sourceType, Type targetType) {
+            return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper.getErrorMessage(
+                    RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION, sourceType, targetType));
+        }
+
         private void append(char ch) {
             try {
                 this.charBuff[this.charBuffIndex] = ch;
@@ -289,14 +489,20 @@ public class JsonParser {
         }
 
         private State finalizeObject() {
+            if (this.targetType != null) {
+                this.completeTypedNode();
+            }
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
 
             Object parentNode = this.nodesStack.pop();
-            if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
-                ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
-                                                                 currentJsonNode);
+            if (this.targetType != null) {
+                this.currentTargetType = this.targetTypesStack.pop();
+            }
+            // Note: Records are map values as well
+            if (parentNode instanceof MapValueImpl) {
+                ((MapValueImpl<BString, Object>) parentNode).put(fieldNames.pop(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
             }
@@ -306,21 +512,178 @@ public class JsonParser {
         }
 
         private State initNewObject() {
+            Type expectedType = this.targetType != null ? this.expectedType() : null;
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
+                if (expectedType != null) {
+                    this.targetTypesStack.push(this.currentTargetType);
+                }
+            }
+            if (expectedType != null) {
+                currentJsonNode = this.initNewMappingValue(expectedType);
+            } else {
+                currentJsonNode = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
             }
-            currentJsonNode = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
             return FIRST_FIELD_READY_STATE;
         }
 
         private State initNewArray() {
+            Type expectedType = this.targetType != null ? this.expectedType() : null;
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
+                if (expectedType != null) {
+                    this.targetTypesStack.push(this.currentTargetType);
+                }
+            }
+            if (expectedType != null) {
+                currentJsonNode = this.initNewListValue(expectedType);
+            } else {
+                currentJsonNode = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
             }
-            currentJsonNode = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
             return FIRST_ARRAY_ELEMENT_READY_STATE;
         }
 
+        /**
+         * Returns the target type of the value, which is about to be defined in the current node.
+         *
+         * @return target type
+         */
+        private Type expectedType() {
+            if (this.currentJsonNode == null) {
+                return this.targetType;
+            }
+            if (this.jsonNodeDepth > 0) {
+                return PredefinedTypes.TYPE_JSON;
+            }
+
+            switch (this.currentTargetType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    RecordType recordType = (RecordType) this.currentTargetType;
+                    Field field = recordType.getFields().get(this.fieldNames.peek().getValue());
+                    if (field != null) {
+                        return field.getFieldType();
+                    }
+                    if (recordType.isSealed()) {
+                        throw createConversionError(JSON_MAP_TYPE, recordType);
+                    }
+                    return recordType.getRestFieldType();
+                case TypeTags.MAP_TAG:
+                    return ((MapType) this.currentTargetType).getConstrainedType();
+                case TypeTags.ARRAY_TAG:
+                    return ((ArrayType) this.currentTargetType).getElementType();
+                default:
+                    TupleType tupleType = (TupleType) this.currentTargetType;
+                    List<Type> memberTypes = tupleType.getTupleTypes();
+                    int index = ((ArrayValue) this.currentJsonNode).size();
+                    if (index < memberTypes.size()) {
+                        return memberTypes.get(index);
+                    }
+                    if (tupleType.getRestType() == null) {
+                        throw createConversionError(PredefinedTypes.TYPE_JSON_ARRAY, tupleType);
+                    }
+                    return tupleType.getRestType();
+            }
+        }
+
+        private Object initNewMappingValue(Type expectedType) {
+            this.currentTargetType = expectedType;
+            if (this.jsonNodeDepth == 0) {
+                switch (expectedType.getTag()) {
+                    case TypeTags.RECORD_TYPE_TAG:
+                        return this.typedValueFactory.createRecordValue((RecordType) expectedType);
+                    case TypeTags.MAP_TAG:
+                        return new MapValueImpl<>(expectedType);
+                    case TypeTags.ARRAY_TAG:
+                    case TypeTags.TUPLE_TAG:
+                        throw createConversionError(JSON_MAP_TYPE, expectedType);
+                    default:
+                        break;
+                }
+            }
+            this.jsonNodeDepth++;
+            return new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+        }
+
+        private Object initNewListValue(Type expectedType) {
+            this.currentTargetType = expectedType;
+            if (this.jsonNodeDepth == 0) {
+                switch (expectedType.getTag()) {
+                    case TypeTags.ARRAY_TAG:
+                        // Note: Fixed length arrays are parsed as json, so that the length is checked at conversion
+                        if (((ArrayType) expectedType).getState() == ArrayType.ArrayState.OPEN) {
+                            return ValueCreator.createArrayValue((ArrayType) expectedType);
+                        }
+                        break;
+                    case TypeTags.TUPLE_TAG:
+                        // Members are collected first, since a tuple value is created with its members filled in
+                        return new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_ANY));
+                    case TypeTags.RECORD_TYPE_TAG:
+                    case TypeTags.MAP_TAG:
+                        throw createConversionError(PredefinedTypes.TYPE_JSON_ARRAY, expectedType);
+                    default:
+                        break;
+                }
+            }
+            this.jsonNodeDepth++;
+            return new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        }
+
+        /**
+         * Completes the current node once all of its members are defined. A node parsed as json is converted to its
+         * target type, whereas the members of a record or a tuple are validated against its type.
+         */
+        private void completeTypedNode() {
+            if (this.jsonNodeDepth > 0) {
+                this.jsonNodeDepth--;
+                if (this.jsonNodeDepth == 0 && this.currentTargetType.getTag() != TypeTags.JSON_TAG) {
+                    this.currentJsonNode = this.typedValueFactory.convert(this.currentJsonNode,
+                                                                          this.currentTargetType);
+                }
+                return;
+            }
+
+            switch (this.currentTargetType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    RecordType recordType = (RecordType) this.currentTargetType;
+                    MapValueImpl<BString, Object> record = (MapValueImpl<BString, Object>) this.currentJsonNode;
+                    for (Field field : recordType.getFields().values()) {
+                        if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                                !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                            throw createConversionError(JSON_MAP_TYPE, recordType);
+                        }
+                    }
+                    break;
+                case TypeTags.TUPLE_TAG:
+                    TupleType tupleType = (TupleType) this.currentTargetType;
+                    ArrayValue members = (ArrayValue) this.currentJsonNode;
+                    if (members.size() < tupleType.getTupleTypes().size()) {
+                        throw createConversionError(PredefinedTypes.TYPE_JSON_ARRAY, tupleType);
+                    }
+                    BArray tuple = ValueCreator.createTupleValue(tupleType);
+                    for (int i = 0; i < members.size(); i++) {
+                        tuple.add(i, members.get(i));
+                    }
+                    this.currentJsonNode = tuple;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Converts a value, which is not a record, a map or a list, to the target type of its position.
+         *
+         * @param value json value
+         * @return value of the target type
+         */
+        private Object toExpectedType(Object value) {
+            Type expectedType = this.expectedType();
+            if (expectedType.getTag() == TypeTags.JSON_TAG) {
+                return value;
+            }
+            return this.typedValueFactory.convert(value, expectedType);
+        }
+
         /**
          * A specific state in the JSON parsing state machine.
          */
@@ -545,7 +908,43 @@ public class JsonParser {
         }
 
         private void processFieldName() {
-            this.fieldNames.push(this.value());
+            this.fieldNames.push(this.fieldName());
+        }
+
+        private BString fieldName() {
+            int length = this.charBuffIndex;
+            this.charBuffIndex = 0;
+            if (length > MAX_INTERNED_FIELD_NAME_LENGTH) {
+                return StringUtils.fromString(new String(this.charBuff, 0, length));
+            }
+
+            // Same as String#hashCode, which is cached in the strings of the interned field names
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + this.charBuff[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+            BString fieldName = this.fieldNameCache[slot];
+            if (fieldName != null && isFieldName(fieldName.getValue(), hash, length)) {
+                return fieldName;
+            }
+
+            fieldName = StringUtils.fromString(new String(this.charBuff, 0, length));
+            this.fieldNameCache[slot] = fieldName;
+            this.fieldNameCacheUsed = true;
+            return fieldName;
+        }
+
+        private boolean isFieldName(String fieldName, int hash, int length) {
+            if (fieldName.hashCode() != hash || fieldName.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (fieldName.charAt(i) != this.charBuff[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         /**
@@ -658,8 +1057,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        sm.setValueToJsonType(ValueType.FIELD, StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -691,7 +1089,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(changeForBString(sm.value()));
+                        sm.setValueToJsonType(ValueType.ARRAY_ELEMENT, changeForBString(sm.value()));
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -803,7 +1201,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = changeForBString(sm.value());
+                        sm.setValueToJsonType(ValueType.VALUE, changeForBString(sm.value()));
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -827,6 +1225,15 @@ public class JsonParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
+            // Literals and integers, which are the most common non-string values, are processed without
+            // creating an intermediate string
+            if (this.processLiteralValue(type) ||
+                    (this.mode == JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING &&
+                            this.processIntegerValue(type))) {
+                this.charBuffIndex = 0;
+                return;
+            }
+
             String str = value();
             if (str.indexOf('.') >= 0) {
                 try {
@@ -851,50 +1258,11 @@ public class JsonParser {
             } else {
                 char ch = str.charAt(0);
                 if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.TRUE);
                 } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.FALSE);
                 } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, null);
                 } else {
                     try {
                         switch (mode) {
@@ -919,14 +1287,79 @@ public class JsonParser {
             }
         }
 
+        private boolean processLiteralValue(ValueType type) {
+            switch (this.charBuff[0]) {
+                case 't':
+                    if (this.isValue(TRUE)) {
+                        this.setValueToJsonType(type, Boolean.TRUE);
+                        return true;
+                    }
+                    return false;
+                case 'f':
+                    if (this.isValue(FALSE)) {
+                        this.setValueToJsonType(type, Boolean.FALSE);
+                        return true;
+                    }
+                    return false;
+                case 'n':
+                    if (this.isValue(NULL)) {
+                        this.setValueToJsonType(type, null);
+                        return true;
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean isValue(String literal) {
+            if (this.charBuffIndex != literal.length()) {
+                return false;
+            }
+            for (int i = 1; i < this.charBuffIndex; i++) {
+                if (this.charBuff[i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean processIntegerValue(ValueType type) {
+            boolean negative = this.charBuff[0] == '-';
+            int start = negative ? 1 : 0;
+            int digits = this.charBuffIndex - start;
+            if (digits == 0 || digits > MAX_SAFE_LONG_DIGITS) {
+                // Let the string based processing validate or handle the value
+                return false;
+            }
+
+            long value = 0;
+            for (int i = start; i < this.charBuffIndex; i++) {
+                char ch = this.charBuff[i];
+                if (ch < '0' || ch > '9') {
+                    return false;
+                }
+                value = value * 10 + (ch - '0');
+            }
+            if (negative) {
+                // Negative zero is not an integer
+                this.setValueToJsonType(type, value == 0 ? (Object) (-0.0d) : (Object) (-value));
+            } else {
+                this.setValueToJsonType(type, value);
+            }
+            return true;
+        }
+
         private void setValueToJsonType(ValueType type, Object value) {
+            if (this.targetType != null) {
+                value = this.toExpectedType(value);
+            }
             switch (type) {
                 case ARRAY_ELEMENT:
                     ((ArrayValue) this.currentJsonNode).append(value);
                     break;
                 case FIELD:
-                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(this.fieldNames.pop(), value);
                     break;
                 default:
                     currentJsonNode = value;
@@ -17,9 +17,14 @@
 
 package io.ballerina.runtime.internal;
 
+import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
@@ -27,7 +32,9 @@ import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.TableValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
+import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.internal.CycleUtils.Node;
@@ -104,4 +111,21 @@ public class TableUtils {
     public static void handleTableStore(TableValue<Object, Object> tableValue, Object key, Object value) {
         tableValue.put(key, value);
     }
+
+    /**
+     * Returns the rows of the table whose given field is equal to the given value, using a secondary index on the
+     * field. If the field cannot be indexed the table itself is returned, so that the caller can fall back to a scan.
+     *
+     * @param table     table to look up
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return an array of the matching rows, or the table itself
+     */
+    public static Object getRowsWithFieldValue(BTable<?, ?> table, BString fieldName, Object value) {
+        List<?> rows = ((TableValueImpl<?, ?>) table).getRowsWithFieldValue(fieldName.getValue(), value);
+        if (rows == null) {
+            return table;
+        }
+        return ValueCreator.createArrayValue(rows.toArray(), TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BType;
+
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of subtype relationships computed by the {@link TypeChecker}.
+ * <p>
+ * Entries are keyed on the identity of the source and target types. Types such as records, objects and errors get
+ * their fields, methods, detail types and type IDs after they are created. Such changes go through setters which call
+ * {@link #invalidate(Type)}, which drops the cached results only if the changed type already took part in a subtype
+ * check. Types that are still being built, e.g. by the generated type initializers or when converting values to a
+ * new type, are not seen by any check yet, so building them does not drop any result. The cache only holds weak
+ * references to the types, so it does not keep types created at runtime alive.
+ * <p>
+ * The maximum number of entries can be changed by setting the BALLERINA_TYPE_CHECK_CACHE_SIZE system variable.
+ * Setting it to 0 disables the cache. Default is 4096. Once the cache is full, an entry is evicted for each new
+ * entry, skipping entries which were hit since they were last considered for eviction (CLOCK eviction).
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+    private static final int CACHE_SIZE = readCacheSize();
+
+    private static final Map<TypePair, CacheEntry> cache = new ConcurrentHashMap<>();
+    private static final Queue<CacheEntry> evictionQueue = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger epoch = new AtomicInteger();
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    static boolean isEnabled() {
+        return CACHE_SIZE > 0;
+    }
+
+    /**
+     * Returns the current epoch, which is to be read before computing a result that is put into the cache.
+     *
+     * @return current epoch
+     */
+    static int currentEpoch() {
+        return epoch.get();
+    }
+
+    static Boolean get(Type sourceType, Type targetType) {
+        CacheEntry entry = cache.get(new LookupKey(sourceType, targetType));
+        if (entry == null || entry.epoch != epoch.get()) {
+            missCount.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hitCount.increment();
+        return entry.result;
+    }
+
+    /**
+     * Caches a result computed in the given epoch. The result is dropped if types changed since then.
+     *
+     * @param sourceType     source type
+     * @param targetType     target type
+     * @param result         whether the source type is a subtype of the target type
+     * @param computedEpoch  epoch read before the result was computed
+     */
+    static void put(Type sourceType, Type targetType, boolean result, int computedEpoch) {
+        if (computedEpoch != epoch.get()) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(new WeakKey(sourceType, targetType), result, computedEpoch);
+        cache.put(entry.key, entry);
+        evictionQueue.add(entry);
+        while (cache.size() > CACHE_SIZE) {
+            if (!evictOne()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Drops all the cached results if the given type took part in a subtype check. Called whenever a type is changed
+     * after it is created, after the change is made.
+     *
+     * @param changedType type which was changed
+     */
+    public static void invalidate(Type changedType) {
+        if (!(changedType instanceof BType) || ((BType) changedType).isTypeChecked()) {
+            epoch.incrementAndGet();
+        }
+    }
+
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    public static void clear() {
+        cache.clear();
+        evictionQueue.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    private static boolean evictOne() {
+        CacheEntry candidate = evictionQueue.poll();
+        if (candidate == null) {
+            return false;
+        }
+        if (candidate.referenced && candidate.epoch == epoch.get() && candidate.key.isLive()) {
+            // Recently hit entries get another chance, and are considered again after the rest of the queue
+            candidate.referenced = false;
+            evictionQueue.add(candidate);
+        } else {
+            // Does not remove a newer result cached for the same types
+            cache.remove(candidate.key, candidate);
+        }
+        return true;
+    }
+
+    private static int readCacheSize() {
+        String cacheSizeConf = System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        if (cacheSizeConf == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(cacheSizeConf);
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            PrintStream err = System.err;
+            err.println("ballerina: error occurred while reading system variable:" +
+                                RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", " + e.getMessage());
+            return DEFAULT_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * Cached result of a type check.
+     */
+    private static class CacheEntry {
+        private final WeakKey key;
+        private final boolean result;
+        private final int epoch;
+        private volatile boolean referenced;
+
+        CacheEntry(WeakKey key, boolean result, int epoch) {
+            this.key = key;
+            this.result = result;
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Cache key that compares the source and target types by identity.
+     */
+    private abstract static class TypePair {
+        private final int hash;
+
+        TypePair(Type sourceType, Type targetType) {
+            this.hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        abstract Type sourceType();
+
+        abstract Type targetType();
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypePair)) {
+                return false;
+            }
+            TypePair other = (TypePair) obj;
+            Type sourceType = sourceType();
+            // A key whose types are collected only equals itself
+            return sourceType != null && sourceType == other.sourceType() && targetType() == other.targetType();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key used to look up the cache, which is not stored.
+     */
+    private static class LookupKey extends TypePair {
+        private final Type sourceType;
+        private final Type targetType;
+
+        LookupKey(Type sourceType, Type targetType) {
+            super(sourceType, targetType);
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        Type sourceType() {
+            return sourceType;
+        }
+
+        @Override
+        Type targetType() {
+            return targetType;
+        }
+    }
+
+    /**
+     * Key stored in the cache, which does not keep the types reachable.
+     */
+    private static class WeakKey extends TypePair {
+        private final WeakReference<Type> sourceType;
+        private final WeakReference<Type> targetType;
+
+        WeakKey(Type sourceType, Type targetType) {
+            super(sourceType, targetType);
+            this.sourceType = new WeakReference<>(sourceType);
+            this.targetType = new WeakReference<>(targetType);
+        }
+
+        @Override
+        Type sourceType() {
+            return sourceType.get();
+        }
+
+        @Override
+        Type targetType() {
+            return targetType.get();
+        }
+
+        boolean isLive() {
+            return sourceType.get() != null && targetType.get() != null;
+        }
+    }
+}
@@ -269,7 +269,13 @@ public class TypeChecker {
      * @return true if the value belongs to the given type, false otherwise
      */
     public static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType) {
-        if (checkIsType(sourceVal, sourceType, targetType, new ArrayList<>())) {
+        if (sourceType.getTag() == TypeTags.RECORD_TYPE_TAG && targetType.getTag() == TypeTags.RECORD_TYPE_TAG &&
+                !hasReadOnlyFields((BRecordType) sourceType)) {
+            // Without readonly fields the value does not affect the result, so the (cached) type check is enough.
+            if (checkIsType(sourceType, targetType)) {
+                return true;
+            }
+        } else if (checkIsType(sourceVal, sourceType, targetType, new ArrayList<>())) {
             return true;
         }
 
@@ -601,11 +607,76 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        if (sourceType == targetType) {
+            return true;
+        }
+
+        if (!TypeCheckCache.isEnabled() || !isStructuredType(targetType.getTag())) {
+            return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        }
+
+        int epoch = TypeCheckCache.currentEpoch();
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+        TypeCheckCache.put(sourceType, targetType, result, epoch);
+        return result;
+    }
+
+    /**
+     * Checks whether checking a type against the given target type requires a structural (and possibly
+     * recursive) comparison. Only those results are worth caching.
+     */
+    private static boolean isStructuredType(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.FUNCTION_POINTER_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.TYPEDESC_TAG:
+            case TypeTags.XML_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Marks a type as seen by a subtype check before the check reads it, so that a later change to the type drops the
+     * cached results which may depend on it.
+     */
+    private static void markTypeChecked(Type type) {
+        if (TypeCheckCache.isEnabled() && type instanceof BType) {
+            ((BType) type).markTypeChecked();
+        }
+    }
+
+    private static boolean hasReadOnlyFields(BRecordType recordType) {
+        for (Field field : recordType.getFields().values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        markTypeChecked(sourceType);
+        markTypeChecked(targetType);
+
         // First check whether both types are the same.
         if (sourceType == targetType || sourceType.equals(targetType)) {
             return true;
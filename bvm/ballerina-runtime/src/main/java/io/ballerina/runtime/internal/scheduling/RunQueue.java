@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the scheduler worker threads.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Called once by each worker thread before it starts taking groups from this queue.
+     *
+     * @param workerId index of the worker, from 0 to (number of workers - 1)
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Adds a runnable group. If called from a worker thread the implementation may keep the group local to
+     * that worker.
+     *
+     * @param group group that is ready to run
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds the given number of {@link ItemGroup#POISON_PILL}s so that every worker eventually stops.
+     *
+     * @param numWorkers number of workers to be stopped
+     */
+    void poison(int numWorkers);
+
+    /**
+     * Retrieves a runnable group, waiting if necessary until one becomes available.
+     *
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    int size();
+}
@@ -35,13 +35,16 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
 
@@ -61,7 +64,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -69,6 +72,12 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable to
+     * {@value RuntimeConstants#SCHEDULER_MODE_WORK_STEALING}. Default is a single queue shared by all the workers.
+     */
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -77,6 +86,23 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static String blockingPoolSizeConf =
+            System.getenv(RuntimeConstants.BALLERINA_MAX_BLOCKING_POOL_SIZE_ENV_VAR);
+
+    /**
+     * Upper bound of the threads used to run blocking interop calls. Blocking calls beyond this limit wait until a
+     * thread becomes free. This can be changed by setting the BALLERINA_MAX_BLOCKING_POOL_SIZE system variable.
+     * Default is 256.
+     */
+    private static int blockingPoolSize = 256;
+
+    private static final long BLOCKING_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Elastic pool that runs blocking interop calls, created on first use.
+     */
+    private volatile ExecutorService blockingExecutor;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
 
@@ -92,15 +118,29 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private RunQueue createRunQueue(int numThreads) {
+        if (RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerModeConf)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        if (schedulerModeConf != null && !RuntimeConstants.SCHEDULER_MODE_SHARED.equalsIgnoreCase(schedulerModeConf)) {
+            // Log and continue with default
+            err.println("ballerina: unknown scheduler mode '" + schedulerModeConf + "' in system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default mode");
+        }
+        return new SharedRunQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -230,12 +270,111 @@ public class Scheduler {
         return future;
     }
 
+    /**
+     * Runs a blocking task submitted by an interop call on the elastic blocking thread pool, instead of a strand
+     * worker thread. The given strand is marked as blocked on extern and yields, so the worker thread is freed to run
+     * other strands. When the task completes the strand is resumed with the task result as its return value. If the
+     * task throws an {@link Error}, the strand is resumed with a panic and the error is rethrown on the pool thread.
+     *
+     * @param strand strand of the interop call
+     * @param task   blocking task to be executed
+     */
+    public void executeBlocking(Strand strand, Supplier<Object> task) {
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        getBlockingExecutor().execute(() -> {
+            Object result;
+            try {
+                result = task.get();
+            } catch (BError e) {
+                result = e;
+            } catch (Exception e) {
+                result = ErrorCreator.createError(e);
+            } catch (Error e) {
+                // The strand must not be left blocked, but errors such as OOM are not turned into error values
+                strand.panic = ErrorCreator.createError(e);
+                unblockStrand(strand);
+                throw e;
+            }
+            strand.returnValue = result;
+            unblockStrand(strand);
+        });
+    }
+
+    private ExecutorService getBlockingExecutor() {
+        ExecutorService executor = blockingExecutor;
+        if (executor != null) {
+            return executor;
+        }
+        synchronized (this) {
+            if (blockingExecutor == null) {
+                blockingExecutor = createBlockingExecutor();
+            }
+            return blockingExecutor;
+        }
+    }
+
+    private ExecutorService createBlockingExecutor() {
+        try {
+            if (blockingPoolSizeConf != null) {
+                blockingPoolSize = Integer.parseInt(blockingPoolSizeConf);
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                RuntimeConstants.BALLERINA_MAX_BLOCKING_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        BlockingTaskQueue queue = new BlockingTaskQueue();
+        // No core threads, so that idle threads die and the pool grows and shrinks with the blocking load
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, blockingPoolSize, BLOCKING_THREAD_KEEP_ALIVE_SECONDS,
+                                                             TimeUnit.SECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "jbal-blocking-exec-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, (task, rejectingExecutor) -> {
+            if (!rejectingExecutor.isShutdown()) {
+                // All the threads are busy and the pool is at its maximum size
+                queue.enqueue(task);
+            }
+        });
+        queue.executor = executor;
+        return executor;
+    }
+
+    /**
+     * Queue of the blocking thread pool. Unlike the queue of a plain {@link ThreadPoolExecutor}, which gets a new
+     * thread only once the queue is full, a task is queued only if a thread is idle or the pool is at its maximum
+     * size, so that blocking tasks never wait for each other while the pool can grow.
+     */
+    private static class BlockingTaskQueue extends LinkedBlockingQueue<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+        private transient volatile ThreadPoolExecutor executor;
+
+        @Override
+        public boolean offer(Runnable task) {
+            ThreadPoolExecutor executor = this.executor;
+            int poolSize = executor.getPoolSize();
+            if (poolSize < executor.getMaximumPoolSize() && executor.getActiveCount() >= poolSize) {
+                // Makes the executor start a new thread
+                return false;
+            }
+            return super.offer(task);
+        }
+
+        void enqueue(Runnable task) {
+            super.offer(task);
+        }
+    }
+
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -246,8 +385,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runnableList.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -415,7 +555,7 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
-        justCompleted.frames = null;
+        justCompleted.releaseFrames();
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
@@ -463,15 +603,14 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdown();
         }
+        runnableList.poison(numThreads);
     }
 
     public void setListenerDeclarationFound(boolean listenerDeclarationFound) {
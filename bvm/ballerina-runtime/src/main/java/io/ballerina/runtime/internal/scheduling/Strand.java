@@ -28,7 +28,10 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +58,17 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    /**
+     * Size of the frame stack given to a strand when it yields for the first time. The stack grows on demand.
+     */
+    private static final int INITIAL_FRAME_COUNT = 8;
+    private static final int MAX_POOLED_FRAME_STACKS = 64;
+
+    /**
+     * Frame stacks of completed strands, kept per thread to be reused by the next strands that yield.
+     */
+    private static final ThreadLocal<Deque<Object[]>> framePool = ThreadLocal.withInitial(ArrayDeque::new);
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -101,10 +115,39 @@ public class Strand {
         //TODO: improve by using a copy on write map #26710
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null) {
+        } else if (parent != null && parent.globalProps != null && !parent.globalProps.isEmpty()) {
             this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+        }
+    }
+
+    /**
+     * Saves the frame of a yielding function. Called from the generated code.
+     *
+     * @param frame frame of the function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            Object[] pooledFrames = framePool.get().poll();
+            this.frames = pooledFrames != null ? pooledFrames : new Object[INITIAL_FRAME_COUNT];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length * 2);
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
+    /**
+     * Returns the frame stack of a completed strand to the pool of the current thread.
+     */
+    void releaseFrames() {
+        Object[] releasedFrames = this.frames;
+        this.frames = null;
+        if (releasedFrames == null || releasedFrames.length != INITIAL_FRAME_COUNT) {
+            return;
+        }
+        Deque<Object[]> pool = framePool.get();
+        if (pool.size() < MAX_POOLED_FRAME_STACKS) {
+            Arrays.fill(releasedFrames, null);
+            pool.push(releasedFrames);
         }
     }
 
@@ -126,7 +169,7 @@ public class Strand {
      */
     @Deprecated
     public Object getProperty(String key) {
-        return this.globalProps.get(key);
+        return this.globalProps == null ? null : this.globalProps.get(key);
     }
 
     /**
@@ -135,6 +178,9 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} that keeps a deque per worker thread.
+ * <p>
+ * Groups added by a worker (e.g. when a strand is rescheduled or a local strand is started) are appended to that
+ * worker's own deque, so they are likely to be resumed on the same thread. The deque is run in FIFO order, so that
+ * strands which keep rescheduling each other do not starve the older groups. Groups added from other threads go to
+ * a shared injection queue, which a worker polls when it has no local work and also every
+ * {@value #INJECTION_POLL_INTERVAL} local polls, so that injected work makes progress even if local work never runs
+ * out. A worker without any work steals from the tail of the other workers' deques. Worker threads only block when
+ * there is no work anywhere.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private static final int NOT_A_WORKER = -1;
+    // Same interval as the global run queue check of the Go scheduler
+    static final int INJECTION_POLL_INTERVAL = 61;
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    // Number of polls of each worker, only accessed by the worker itself
+    private final int[] pollCounts;
+    private final ThreadLocal<Integer> workerIndex = ThreadLocal.withInitial(() -> NOT_A_WORKER);
+
+    /**
+     * Number of workers that are about to wait or are waiting on {@code idleLock}. Only touched while holding the
+     * lock by the workers, read without the lock by producers.
+     */
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final Object idleLock = new Object();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        this.pollCounts = new int[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        workerIndex.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int index = workerIndex.get();
+        if (index == NOT_A_WORKER) {
+            injectionQueue.add(group);
+        } else {
+            localQueues[index].addLast(group);
+        }
+        signalWork(false);
+    }
+
+    @Override
+    public void poison(int numWorkers) {
+        for (int i = 0; i < numWorkers; i++) {
+            injectionQueue.add(POISON_PILL);
+        }
+        signalWork(true);
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        int index = workerIndex.get();
+        while (true) {
+            ItemGroup group = poll(index);
+            if (group != null) {
+                return group;
+            }
+            synchronized (idleLock) {
+                idleWorkers.incrementAndGet();
+                try {
+                    // Recheck after announcing that this worker is idle, so that a concurrent add either is seen
+                    // here or sees the idle worker and notifies it.
+                    group = poll(index);
+                    if (group != null) {
+                        return group;
+                    }
+                    idleLock.wait();
+                } finally {
+                    idleWorkers.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            size += localQueue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup poll(int index) {
+        ItemGroup group;
+        if (index != NOT_A_WORKER) {
+            if (++pollCounts[index] % INJECTION_POLL_INTERVAL == 0) {
+                group = injectionQueue.poll();
+                if (group != null) {
+                    return group;
+                }
+            }
+            group = localQueues[index].pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(index);
+    }
+
+    private ItemGroup steal(int thiefIndex) {
+        int numWorkers = localQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == thiefIndex) {
+                continue;
+            }
+            ItemGroup group = localQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalWork(boolean all) {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+        synchronized (idleLock) {
+            if (all) {
+                idleLock.notifyAll();
+            } else {
+                idleLock.notify();
+            }
+        }
+    }
+}
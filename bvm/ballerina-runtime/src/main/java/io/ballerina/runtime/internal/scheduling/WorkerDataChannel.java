@@ -19,27 +19,33 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Async sends add data to a non-blocking queue without acquiring the channel lock. The lock is only taken by
+ * the sender when the receiver is waiting on the channel, and by the receiver, sync sends, flushes and
+ * error/panic propagation.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
     private WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
+    private final AtomicInteger senderCounter = new AtomicInteger();
     private int receiverCounter;
     private boolean reschedule;
 
@@ -48,16 +54,14 @@ public class WorkerDataChannel {
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final Queue<WorkerResult> channel = new ConcurrentLinkedQueue<>();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
         this.receiverCounter = 0;
     }
     public WorkerDataChannel(String channelName) {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
         this.receiverCounter = 0;
         this.chnlName = channelName;
     }
@@ -72,16 +76,25 @@ public class WorkerDataChannel {
 
     @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
+        this.senderCounter.incrementAndGet();
+        this.channel.add(new WorkerResult(data));
+        // The receiver publishes itself before checking the channel again, so either it sees the data added above
+        // or it is seen here.
+        if (this.receiver != null) {
+            try {
+                acquireChannelLock();
+                unblockReceiver();
+            } finally {
+                releaseChannelLock();
             }
-        } finally {
-            releaseChannelLock();
+        }
+    }
+
+    private void unblockReceiver() {
+        Strand waitingReceiver = this.receiver;
+        if (waitingReceiver != null) {
+            waitingReceiver.scheduler.unblockStrand(waitingReceiver);
+            this.receiver = null;
         }
     }
 
@@ -97,14 +110,13 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
+                this.senderCounter.incrementAndGet();
                 this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
 
                 if (this.receiver != null) {
                     // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
+                    unblockReceiver();
                 } else if (this.panic != null) {
                     Throwable panic = this.panic;
                     this.panic = null;
@@ -141,44 +153,56 @@ public class WorkerDataChannel {
             acquireChannelLock();
             WorkerResult result = this.channel.peek();
             if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                return takeData(result);
+            } else if (this.panic != null && this.senderCounter.get() == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+            } else if (this.error != null && this.senderCounter.get() == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
             } else {
-                this.receiver = strand;
                 strand.setState(BLOCK_AND_YIELD);
-                return null;
+                this.receiver = strand;
+                // async senders do not take the lock unless a receiver is set, so check again after setting it
+                result = this.channel.peek();
+                if (result == null) {
+                    return null;
+                }
+                this.receiver = null;
+                strand.setState(RUNNABLE);
+                return takeData(result);
             }
         } finally {
             releaseChannelLock();
         }
     }
 
+    @SuppressWarnings("rawtypes")
+    private Object takeData(WorkerResult result) {
+        this.receiverCounter++;
+        this.channel.poll();
+
+        if (result.isSync) {
+            // sync sender will pick the this.error as result, which is null
+            Strand waiting  = this.waitingSender.waitingStrand;
+            waiting.scheduler.unblockStrand(waiting);
+            this.waitingSender = null;
+        } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
+            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
+            this.flushSender.waitingStrand.flushDetail.flushedCount++;
+            if (this.flushSender.waitingStrand.flushDetail.flushedCount
+                    == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
+                    this.flushSender.waitingStrand.isBlocked()) {
+                    //will continue if this is a sync wait, will try to flush again if blocked on flush
+                    this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
+
+            }
+            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
+            this.flushSender = null;
+        }
+        return result.value;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -186,11 +210,8 @@ public class WorkerDataChannel {
     public void setSendError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -234,13 +255,13 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            } else if (this.receiverCounter == this.senderCounter.get()) {
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
                 return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            this.flushSender = new WaitingSender(strand, this.senderCounter.get());
             return null;
         } finally {
             releaseChannelLock();
@@ -262,11 +283,8 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            this.senderCounter.incrementAndGet();
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
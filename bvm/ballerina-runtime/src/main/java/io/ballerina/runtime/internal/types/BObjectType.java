@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MemberFunctionType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
@@ -83,6 +84,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setAttachedFunctions(MemberFunctionType[] attachedFunctions) {
         this.attachedFunctions = attachedFunctions;
+        TypeCheckCache.invalidate(this);
     }
 
     public void setInitializer(BMemberFunctionType initializer) {
@@ -131,5 +133,6 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeCheckCache.invalidate(this);
     }
 }
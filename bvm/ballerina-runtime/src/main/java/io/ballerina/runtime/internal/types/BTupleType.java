@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
 import java.util.List;
@@ -93,6 +94,19 @@ public class BTupleType extends BType implements TupleType {
         return restType;
     }
 
+    /**
+     * Sets the member types of a tuple type which can only get its members after it is created, e.g. a recursive
+     * tuple type.
+     *
+     * @param tupleTypes member types of the tuple type
+     * @param restType   rest type of the tuple type
+     */
+    public void setMemberTypes(List<Type> tupleTypes, Type restType) {
+        this.tupleTypes = tupleTypes;
+        this.restType = restType;
+        TypeCheckCache.invalidate(this);
+    }
+
     @Override
     public <V extends Object> V getZeroValue() {
         return (V) new TupleValueImpl(this);
@@ -42,6 +42,7 @@ public abstract class BType implements Type {
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    private volatile boolean typeChecked;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = IdentifierUtils.decodeIdentifier(typeName);
@@ -185,4 +186,17 @@ public abstract class BType implements Type {
     public Module getPkg() {
         return pkg;
     }
+
+    /**
+     * Records that this type took part in a subtype check, the result of which may have been cached.
+     */
+    public void markTypeChecked() {
+        if (!this.typeChecked) {
+            this.typeChecked = true;
+        }
+    }
+
+    public boolean isTypeChecked() {
+        return this.typeChecked;
+    }
 }
@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.Arrays;
 import java.util.List;
@@ -104,6 +105,18 @@ public class BUnionType extends BType implements UnionType {
         return memberTypes;
     }
 
+    /**
+     * Sets the member types of a union type which can only get its members after it is created, e.g. a recursive
+     * union type.
+     *
+     * @param memberTypes member types of the union type
+     */
+    public void setMemberTypes(List<Type> memberTypes) {
+        this.memberTypes = memberTypes;
+        this.cachedToString = null;
+        TypeCheckCache.invalidate(this);
+    }
+
     public boolean isNullable() {
         return isNilable();
     }
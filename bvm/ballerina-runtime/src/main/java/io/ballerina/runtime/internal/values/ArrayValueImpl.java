@@ -830,6 +830,33 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return Arrays.copyOf(intValues, size);
     }
 
+    /**
+     * Get int values array. The values array is not copied, and its length may exceed the size of the array.
+     *
+     * @return int values array, or null if the array is not an array of ints
+     */
+    public long[] getIntValues() {
+        return intValues;
+    }
+
+    /**
+     * Get float values array. The values array is not copied, and its length may exceed the size of the array.
+     *
+     * @return float values array, or null if the array is not an array of floats
+     */
+    public double[] getFloatValues() {
+        return floatValues;
+    }
+
+    /**
+     * Get string values array. The values array is not copied, and its length may exceed the size of the array.
+     *
+     * @return string values array, or null if the array is not an array of strings
+     */
+    public BString[] getBStringValues() {
+        return bStringValues;
+    }
+
     /**
      * Get a copy of int array.
      * 
@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Insertion ordered hash map which keeps its entries in a single array of alternating keys and values, instead of
+ * allocating a node per entry. Small maps are searched linearly and have no hash index at all. Larger maps index the
+ * entry array with an open addressing (linear probing) table of entry positions.
+ * </p>
+ * <p>
+ * Removed entries leave a gap in the entry array, which is reclaimed when the array is full. Like
+ * {@link java.util.LinkedHashMap}, iterators are fail-fast and the map permits {@code null} keys and values.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public class CompactLinkedHashMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MAX_LINEAR_SCAN_SIZE = 8;
+    private static final Object REMOVED = new Object();
+
+    /**
+     * Keys and values in insertion order; the entry in slot {@code i} is at {@code 2i} and {@code 2i + 1}.
+     */
+    private transient Object[] entries;
+
+    /**
+     * Slot of each indexed entry plus one, with zero marking an empty bucket. The length is twice the entry
+     * capacity, so the table is at most half full. This is {@code null} until the map grows beyond
+     * {@link #MAX_LINEAR_SCAN_SIZE} entries.
+     */
+    private transient int[] index;
+    private transient int used;
+    private transient int size;
+    private transient int modCount;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int slot = 0; slot < used; slot++) {
+            if (entries[slot << 1] != REMOVED && Objects.equals(value, entries[(slot << 1) + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            V oldValue = valueAt(slot);
+            entries[(slot << 1) + 1] = value;
+            return oldValue;
+        }
+        append(key, value);
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : removeSlot(slot);
+    }
+
+    @Override
+    public void clear() {
+        clearEntries();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        for (int slot = 0; slot < used; slot++) {
+            if (entries[slot << 1] != REMOVED) {
+                action.accept(keyAt(slot), valueAt(slot));
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new SlotIterator<K>() {
+                    @Override
+                    K elementAt(int slot) {
+                        return keyAt(slot);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return findSlot(o) >= 0;
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                int slot = findSlot(o);
+                if (slot < 0) {
+                    return false;
+                }
+                removeSlot(slot);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                clearEntries();
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new SlotIterator<V>() {
+                    @Override
+                    V elementAt(int slot) {
+                        return valueAt(slot);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                clearEntries();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new SlotIterator<Map.Entry<K, V>>() {
+                    @Override
+                    Map.Entry<K, V> elementAt(int slot) {
+                        return new SlotEntry(slot);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return findSlot(o) >= 0;
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                int slot = findSlot(o);
+                if (slot < 0) {
+                    return false;
+                }
+                removeSlot(slot);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                clearEntries();
+            }
+
+            private int findSlot(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return -1;
+                }
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                int slot = CompactLinkedHashMap.this.findSlot(entry.getKey());
+                return slot >= 0 && Objects.equals(valueAt(slot), entry.getValue()) ? slot : -1;
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) entries[slot << 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) entries[(slot << 1) + 1];
+    }
+
+    private int findSlot(Object key) {
+        if (index == null) {
+            for (int slot = 0; slot < used; slot++) {
+                Object k = entries[slot << 1];
+                if (k == key || (k != REMOVED && key != null && key.equals(k))) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int slot = index[i] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            Object k = entries[slot << 1];
+            if (k == key || (key != null && key.equals(k))) {
+                return slot;
+            }
+        }
+    }
+
+    private void append(K key, V value) {
+        if (entries == null) {
+            entries = new Object[INITIAL_CAPACITY << 1];
+        } else if (used << 1 == entries.length) {
+            makeRoom();
+        }
+
+        int slot = used++;
+        entries[slot << 1] = key;
+        entries[(slot << 1) + 1] = value;
+        size++;
+        modCount++;
+        if (index != null) {
+            addToIndex(slot, hash(key));
+        } else if (size > MAX_LINEAR_SCAN_SIZE) {
+            rebuildIndex();
+        }
+    }
+
+    private V removeSlot(int slot) {
+        V oldValue = valueAt(slot);
+        if (index != null) {
+            removeFromIndex(slot);
+        }
+        entries[slot << 1] = REMOVED;
+        entries[(slot << 1) + 1] = null;
+        size--;
+        modCount++;
+        // Trailing gaps can be reused right away.
+        while (used > 0 && entries[(used - 1) << 1] == REMOVED) {
+            used--;
+            entries[used << 1] = null;
+        }
+        return oldValue;
+    }
+
+    private void clearEntries() {
+        if (used == 0) {
+            return;
+        }
+        entries = null;
+        index = null;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Called when every slot of the entry array is used. Compacts the array in place if at least a quarter of the
+     * slots are gaps left by removals, and doubles it otherwise.
+     */
+    private void makeRoom() {
+        if (size <= used - (used >> 2)) {
+            int target = 0;
+            for (int slot = 0; slot < used; slot++) {
+                if (entries[slot << 1] != REMOVED) {
+                    entries[target << 1] = entries[slot << 1];
+                    entries[(target << 1) + 1] = entries[(slot << 1) + 1];
+                    target++;
+                }
+            }
+            Arrays.fill(entries, target << 1, used << 1, null);
+            used = target;
+        } else {
+            entries = Arrays.copyOf(entries, entries.length << 1);
+        }
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        if (size <= MAX_LINEAR_SCAN_SIZE) {
+            index = null;
+            return;
+        }
+        index = new int[entries.length];
+        for (int slot = 0; slot < used; slot++) {
+            Object key = entries[slot << 1];
+            if (key != REMOVED) {
+                addToIndex(slot, hash(key));
+            }
+        }
+    }
+
+    private void addToIndex(int slot, int hash) {
+        int mask = index.length - 1;
+        int i = hash & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
+    }
+
+    private void removeFromIndex(int slot) {
+        int mask = index.length - 1;
+        int hole = hash(entries[slot << 1]) & mask;
+        while (index[hole] != slot + 1) {
+            hole = (hole + 1) & mask;
+        }
+
+        // Backward shift deletion, so that lookups never need tombstones in the index.
+        for (int i = (hole + 1) & mask; index[i] != 0; i = (i + 1) & mask) {
+            int home = hash(entries[(index[i] - 1) << 1]) & mask;
+            boolean canMove = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+            if (canMove) {
+                index[hole] = index[i];
+                hole = i;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int slot = 0; slot < used; slot++) {
+            if (entries[slot << 1] != REMOVED) {
+                out.writeObject(entries[slot << 1]);
+                out.writeObject(entries[(slot << 1) + 1]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            append((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Iterates the used slots of the entry array in order, skipping gaps.
+     *
+     * @param <T> the type of the elements returned
+     */
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        private int next = skipGaps(0);
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        abstract T elementAt(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = skipGaps(next + 1);
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeSlot(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private int skipGaps(int slot) {
+            while (slot < used && entries[slot << 1] == REMOVED) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Entry view of a slot. Reads and writes go to the map for as long as it holds the key; after the key is
+     * removed, the entry keeps the last value it saw, as a detached {@link java.util.LinkedHashMap} entry would.
+     */
+    private final class SlotEntry implements Map.Entry<K, V> {
+        private final K key;
+        private int slot;
+        private V value;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+            this.key = keyAt(slot);
+            this.value = valueAt(slot);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            if (locate()) {
+                value = valueAt(slot);
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V newValue) {
+            V oldValue = getValue();
+            if (locate()) {
+                entries[(slot << 1) + 1] = newValue;
+            }
+            value = newValue;
+            return oldValue;
+        }
+
+        private boolean locate() {
+            if (slot >= 0 && slot < used && entries[slot << 1] == key) {
+                return true;
+            }
+            slot = findSlot(key);
+            return slot >= 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -70,10 +70,16 @@
 
     @Override
     public BString concat(BString str) {
-        if (str instanceof NonBmpStringValue) {
+        if (RopeStringValue.isRopeConcat(this, str)) {
+            return new RopeStringValue(this, str);
+        } else if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            // Surrogate locations of the other string are shifted by the length of this string
+            int offset = this.length();
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + offset;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
@@ -102,6 +108,14 @@
          return surrogates.clone();
      }
 
+     int[] getSurrogates(int offset) {
+         int[] shiftedSurrogates = new int[surrogates.length];
+         for (int i = 0; i < surrogates.length; i++) {
+             shiftedSurrogates[i] = surrogates[i] + offset;
+         }
+         return shiftedSurrogates;
+     }
+
      @Override
      public String toString() {
          return value;
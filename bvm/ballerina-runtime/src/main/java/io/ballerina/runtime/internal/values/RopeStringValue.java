@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings. The content is not copied when concatenating,
+ * but when it is first required, so that repeatedly appending to a string in a loop is not quadratic.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    // Concatenations resulting in shorter strings are copied eagerly
+    private static final int ROPE_THRESHOLD = 1024;
+
+    private final int length;
+    private final int charLength;
+    private final boolean bmp;
+    // The parts are released once the rope is flattened
+    private volatile BString left;
+    private volatile BString right;
+    private volatile BString flattened;
+
+    RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+        this.bmp = isBmp(left) && isBmp(right);
+    }
+
+    static boolean isRopeConcat(BString left, BString right) {
+        return left instanceof RopeStringValue || right instanceof RopeStringValue ||
+                left.length() + right.length() >= ROPE_THRESHOLD;
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    private static boolean isBmp(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).bmp;
+        }
+        return str instanceof BmpStringValue;
+    }
+
+    private BString flatten() {
+        BString flattened = this.flattened;
+        if (flattened != null) {
+            return flattened;
+        }
+
+        synchronized (this) {
+            if (this.flattened != null) {
+                return this.flattened;
+            }
+
+            // Ropes built in a loop are deep, hence the parts are traversed iteratively
+            StringBuilder sb = new StringBuilder(this.charLength);
+            Deque<BString> parts = new ArrayDeque<>();
+            parts.push(this.right);
+            parts.push(this.left);
+            while (!parts.isEmpty()) {
+                BString part = parts.pop();
+                if (!(part instanceof RopeStringValue)) {
+                    sb.append(part.getValue());
+                    continue;
+                }
+
+                RopeStringValue rope = (RopeStringValue) part;
+                BString ropeLeft = rope.left;
+                BString ropeRight = rope.right;
+                if (rope.flattened != null || ropeLeft == null || ropeRight == null) {
+                    // The parts are released only after the flattened string is set
+                    sb.append(rope.flattened.getValue());
+                } else {
+                    parts.push(ropeRight);
+                    parts.push(ropeLeft);
+                }
+            }
+
+            String value = sb.toString();
+            flattened = this.bmp ? new BmpStringValue(value) : StringUtils.fromString(value);
+            this.flattened = flattened;
+            this.left = null;
+            this.right = null;
+            return flattened;
+        }
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+}
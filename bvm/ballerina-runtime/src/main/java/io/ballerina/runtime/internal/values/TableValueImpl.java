@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -40,20 +41,21 @@ import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
-import java.util.AbstractMap;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.TreeMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -64,6 +66,11 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are kept in a doubly linked list in insertion order. Tables with a key sequence also index the rows by
+ * key in an open addressing hash table, which compares colliding keys by value equality. Secondary indexes on
+ * fields that cannot change while a row is in the table are built on demand, see
+ * {@link #getRowsWithFieldValue(String, Object)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -74,17 +81,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    private TableEntry<K, V> head;
+    private TableEntry<K, V> tail;
+    private int size;
+    private long nextEntrySeq;
+
+    /**
+     * Secondary indexes by field name. Indexes of immutable tables are built by concurrent readers, hence a new map
+     * is published whenever an index is added, and a published map is never modified.
+     */
+    private volatile Map<String, FieldIndex> fieldIndexes;
 
     private boolean nextKeySupported;
 
@@ -93,11 +103,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -125,7 +130,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -212,23 +217,95 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (TableEntry<K, V> entry = head; entry != null; entry = entry.after) {
+            entrySet.add(entry);
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new EntryIterator<V>() {
+                    @Override
+                    V valueOf(TableEntry<K, V> entry) {
+                        return entry.value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        for (TableEntry<K, V> entry = head; entry != null; entry = entry.after) {
+            entry.removed = true;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        fieldIndexes = null;
+        valueHolder.clear();
+    }
+
+    /**
+     * Returns the rows whose given field is equal to the given value, in table order. The first lookup on a field
+     * builds a secondary index for it, which is then kept up to date as rows are added and removed. Only the key
+     * field of a single key table and fields that cannot be mutated in place (readonly fields, or any field of an
+     * immutable table) can be indexed.
+     *
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return matching rows, or {@code null} if the field cannot be indexed
+     */
+    public List<V> getRowsWithFieldValue(String fieldName, Object value) {
+        if (valueHolder instanceof KeyHashValueHolder && fieldNames.length == 1 && fieldNames[0].equals(fieldName)) {
+            V row = valueHolder.getData((K) value);
+            return row == null ? Collections.emptyList() : Collections.singletonList(row);
+        }
+
+        if (!isIndexableField(fieldName)) {
+            return null;
+        }
+
+        Map<String, FieldIndex> indexes = fieldIndexes;
+        FieldIndex fieldIndex = indexes == null ? null : indexes.get(fieldName);
+        if (fieldIndex == null) {
+            fieldIndex = new FieldIndex(fieldName);
+            for (TableEntry<K, V> entry = head; entry != null; entry = entry.after) {
+                fieldIndex.add(entry);
+            }
+            // An index built by a concurrent reader may be replaced, which only costs building it again
+            Map<String, FieldIndex> newIndexes = indexes == null ? new HashMap<>() : new HashMap<>(indexes);
+            newIndexes.put(fieldName, fieldIndex);
+            fieldIndexes = newIndexes;
+        }
+        return fieldIndex.get(value);
+    }
+
+    private boolean isIndexableField(String fieldName) {
+        if (isFrozen()) {
+            return true;
+        }
+
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
     }
 
     @Override
@@ -257,7 +334,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +362,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        return valueHolder.getKeys();
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -320,8 +397,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -331,21 +407,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,8 +430,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -385,40 +460,256 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private class TableIterator implements IteratorValue {
+        private final EntryIterator<TableEntry<K, V>> entryIterator = new EntryIterator<TableEntry<K, V>>() {
+            @Override
+            TableEntry<K, V> valueOf(TableEntry<K, V> entry) {
+                return entry;
+            }
+        };
 
-        TableIterator() {
-            this.cursor = 0;
+        @Override
+        public Object next() {
+            TableEntry<K, V> next = entryIterator.next();
+            V value = next.value;
+            K key = next.key;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
-        public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+        public boolean hasNext() {
+            return entryIterator.hasNext();
+        }
+    }
+
+    /**
+     * Iterates the rows in insertion order. Removed rows keep their links to the neighbouring rows, so that an
+     * iterator positioned on a row removed during the iteration continues from the closest preceding row which is
+     * still in the table, including rows added after the removal.
+     *
+     * @param <T> type of the element returned for each row
+     */
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        private TableEntry<K, V> lastReturned;
+        private boolean started;
+
+        abstract T valueOf(TableEntry<K, V> entry);
+
+        private TableEntry<K, V> nextEntry() {
+            if (!started) {
+                return head;
             }
+            TableEntry<K, V> entry = lastReturned;
+            while (entry != null && entry.removed) {
+                entry = entry.before;
+            }
+            entry = entry == null ? head : entry.after;
+            // skip the rows up to the last returned one, which are reached when it was removed
+            while (entry != null && entry.seq <= lastReturned.seq) {
+                entry = entry.after;
+            }
+            return entry;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return nextEntry() != null;
+        }
+
+        @Override
+        public T next() {
+            TableEntry<K, V> entry = nextEntry();
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = entry;
+            started = true;
+            return valueOf(entry);
+        }
+    }
+
+    /**
+     * A row of the table.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static class TableEntry<K, V> implements Map.Entry<K, V> {
+        private K key;
+        private V value;
+        private final int hash;
+        private long seq;
+        private TableEntry<K, V> before;
+        private TableEntry<K, V> after;
+        private boolean removed;
+
+        TableEntry(K key, V value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+    }
+
+    private void linkLast(TableEntry<K, V> entry) {
+        entry.seq = nextEntrySeq++;
+        entry.before = tail;
+        if (tail == null) {
+            head = entry;
+        } else {
+            tail.after = entry;
+        }
+        tail = entry;
+        size++;
+        Map<String, FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes.values()) {
+                fieldIndex.add(entry);
+            }
+        }
+    }
+
+    private void unlink(TableEntry<K, V> entry) {
+        entry.removed = true;
+        if (entry.before == null) {
+            head = entry.after;
+        } else {
+            entry.before.after = entry.after;
+        }
+        if (entry.after == null) {
+            tail = entry.before;
+        } else {
+            entry.after.before = entry.before;
+        }
+        // the links of the entry are kept for iterators that are positioned on it
+        size--;
+        Map<String, FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes.values()) {
+                fieldIndex.remove(entry);
+            }
+        }
+    }
+
+    private V replaceValue(TableEntry<K, V> entry, V value) {
+        Map<String, FieldIndex> indexes = fieldIndexes;
+        if (indexes == null) {
+            return entry.setValue(value);
+        }
+        for (FieldIndex fieldIndex : indexes.values()) {
+            fieldIndex.remove(entry);
+        }
+        V oldValue = entry.setValue(value);
+        for (FieldIndex fieldIndex : indexes.values()) {
+            fieldIndex.add(entry);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Secondary index of the rows by the value of a single field. Each bucket is ordered by insertion sequence so
+     * that lookups return rows in table order.
+     */
+    private class FieldIndex {
+        private final BString fieldName;
+        private final Map<FieldValue, TreeMap<Long, TableEntry<K, V>>> buckets = new HashMap<>();
+
+        FieldIndex(String fieldName) {
+            this.fieldName = StringUtils.fromString(fieldName);
+        }
+
+        void add(TableEntry<K, V> entry) {
+            buckets.computeIfAbsent(fieldValueOf(entry), k -> new TreeMap<>()).put(entry.seq, entry);
+        }
+
+        void remove(TableEntry<K, V> entry) {
+            FieldValue fieldValue = fieldValueOf(entry);
+            TreeMap<Long, TableEntry<K, V>> bucket = buckets.get(fieldValue);
+            if (bucket == null) {
+                return;
+            }
+            bucket.remove(entry.seq);
+            if (bucket.isEmpty()) {
+                buckets.remove(fieldValue);
+            }
+        }
+
+        List<V> get(Object value) {
+            TreeMap<Long, TableEntry<K, V>> bucket = buckets.get(new FieldValue(value));
+            if (bucket == null) {
+                return Collections.emptyList();
+            }
+            List<V> rows = new ArrayList<>(bucket.size());
+            for (TableEntry<K, V> entry : bucket.values()) {
+                rows.add(entry.value);
+            }
+            return rows;
+        }
+
+        private FieldValue fieldValueOf(TableEntry<K, V> entry) {
+            return new FieldValue(((MapValue) entry.value).get(fieldName));
+        }
+    }
+
+    /**
+     * Wraps a field value so that it is hashed and compared by shape.
+     */
+    private static class FieldValue {
+        private final Object value;
+        private final int hash;
+
+        FieldValue(Object value) {
+            this.value = value;
+            this.hash = TableUtils.hash(value, null).hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FieldValue && TypeChecker.isEqual(value, ((FieldValue) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 
@@ -440,11 +731,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            linkLast(new TableEntry<>((K) data, data, 0));
+            return null;
         }
 
         public V remove(K key) {
@@ -460,12 +748,32 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                                            StringUtils.fromString("keys are not defined"));
         }
+
+        public K[] getKeys() {
+            return (K[]) new Object[]{};
+        }
+
+        public void clear() {
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
+        private static final int INITIAL_INDEX_CAPACITY = 16;
+
         private DefaultKeyWrapper keyWrapper;
         private Type keyType;
 
+        /**
+         * Open addressing (linear probing) hash index of the rows. The capacity is always a power of two and is
+         * kept at least twice the number of rows.
+         */
+        private TableEntry<K, V>[] index = new TableEntry[INITIAL_INDEX_CAPACITY];
+        /**
+         * Keys of the rows of a table with a single int key, stored in the same slots as the rows of the index, so
+         * that lookups compare primitive keys without following the rows. Null for other tables.
+         */
+        private long[] intKeys;
+
         public KeyHashValueHolder() {
             super();
             if (fieldNames.length > 1) {
@@ -473,81 +781,194 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             } else {
                 keyWrapper = new DefaultKeyWrapper();
             }
+            if (nextKeySupported) {
+                intKeys = new long[INITIAL_INDEX_CAPACITY];
+            }
         }
 
         public void addData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            int hash = hashKey(key);
 
-            if (containsKey((K) key)) {
+            if (findEntry(key, hash) != null) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            putData(key, data, hash);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            TableEntry<K, V> entry = findEntry(key, hashKey(key));
+            return entry == null ? null : entry.value;
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            int hash = hashKey(key);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != hashKey(actualKey) || !isSameKey(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, int hash) {
+            TableEntry<K, V> entry = findEntry(key, hash);
+            if (entry != null) {
+                entry.key = key;
+                return replaceValue(entry, data);
+            }
+
+            entry = new TableEntry<>(key, data, hash);
+            linkLast(entry);
+            addToIndex(entry);
+            return null;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, hashKey(key));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            int hash = hashKey(key);
+            TableEntry<K, V> entry = findEntry(key, hash);
+            if (entry == null) {
+                return null;
             }
-            return values.remove(hash);
+            removeFromIndex(entry);
+            unlink(entry);
+            return entry.value;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findEntry(key, hashKey(key)) != null;
         }
 
         public Type getKeyType() {
             return keyType;
         }
 
+        public K[] getKeys() {
+            Object[] keys = new Object[size];
+            int i = 0;
+            for (TableEntry<K, V> entry = head; entry != null; entry = entry.after) {
+                keys[i++] = entry.key;
+            }
+            return (K[]) keys;
+        }
+
+        public void clear() {
+            Arrays.fill(index, null);
+        }
+
+        private int hashKey(Object key) {
+            long hash = key instanceof Long ? (Long) key : TableUtils.hash(key, null);
+            int h = Long.hashCode(hash);
+            // spread the bits, since the index only uses the low order bits of the hash
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private boolean isSameKey(Object key, Object otherKey) {
+            if (key instanceof Long && otherKey instanceof Long) {
+                return ((Long) key).longValue() == ((Long) otherKey).longValue();
+            }
+            return TypeChecker.isEqual(key, otherKey);
+        }
+
+        private TableEntry<K, V> findEntry(Object key, int hash) {
+            int mask = index.length - 1;
+            if (intKeys != null) {
+                if (!(key instanceof Long)) {
+                    return null;
+                }
+                long intKey = (Long) key;
+                for (int i = hash & mask; index[i] != null; i = (i + 1) & mask) {
+                    if (intKeys[i] == intKey) {
+                        return index[i];
+                    }
+                }
+                return null;
+            }
+            for (int i = hash & mask; index[i] != null; i = (i + 1) & mask) {
+                TableEntry<K, V> entry = index[i];
+                if (entry.hash == hash && isSameKey(entry.key, key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private void addToIndex(TableEntry<K, V> entry) {
+            if (size * 2 > index.length) {
+                resizeIndex(index.length * 2);
+            }
+            insertIntoIndex(index, intKeys, entry);
+        }
+
+        private void insertIntoIndex(TableEntry<K, V>[] targetIndex, long[] targetIntKeys, TableEntry<K, V> entry) {
+            int mask = targetIndex.length - 1;
+            int i = entry.hash & mask;
+            while (targetIndex[i] != null) {
+                i = (i + 1) & mask;
+            }
+            targetIndex[i] = entry;
+            if (targetIntKeys != null) {
+                targetIntKeys[i] = (Long) entry.key;
+            }
+        }
+
+        private void resizeIndex(int newCapacity) {
+            TableEntry<K, V>[] newIndex = new TableEntry[newCapacity];
+            long[] newIntKeys = intKeys == null ? null : new long[newCapacity];
+            for (TableEntry<K, V> entry : index) {
+                if (entry != null) {
+                    insertIntoIndex(newIndex, newIntKeys, entry);
+                }
+            }
+            index = newIndex;
+            intKeys = newIntKeys;
+        }
+
+        /**
+         * Removes the entry from the index by shifting back the following entries of the probe sequence, so the
+         * index never needs tombstones.
+         */
+        private void removeFromIndex(TableEntry<K, V> entry) {
+            int mask = index.length - 1;
+            int i = entry.hash & mask;
+            while (index[i] != entry) {
+                i = (i + 1) & mask;
+            }
+            index[i] = null;
+
+            for (int j = (i + 1) & mask; index[j] != null; j = (j + 1) & mask) {
+                int home = index[j].hash & mask;
+                // move index[j] to the empty slot i, unless its home slot lies cyclically in (i, j]
+                boolean homeInRange = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+                if (!homeInRange) {
+                    index[i] = index[j];
+                    index[j] = null;
+                    if (intKeys != null) {
+                        intKeys[i] = intKeys[j];
+                    }
+                    i = j;
+                }
+            }
+        }
+
         private class DefaultKeyWrapper {
 
             public DefaultKeyWrapper() {
@@ -592,15 +1013,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -0,0 +1,98 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.values.CompactLinkedHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for {@link CompactLinkedHashMap class}.
+ */
+public class CompactLinkedHashMapTests {
+
+    @Test
+    void testInsertionOrderAfterRemoval() {
+        CompactLinkedHashMap<String, Integer> map = new CompactLinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("k" + i, i);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            map.remove("k" + i);
+        }
+        map.put("k0", 0);
+        map.put("k1", 100);
+
+        Assert.assertEquals(map.size(), 11);
+        Assert.assertEquals(map.get("k1"), Integer.valueOf(100));
+        Assert.assertNull(map.get("k2"));
+        Assert.assertEquals(new ArrayList<>(map.keySet()).get(0), "k1");
+        Assert.assertEquals(new ArrayList<>(map.keySet()).get(10), "k0");
+    }
+
+    @Test
+    void testSameBehaviourAsLinkedHashMap() {
+        Random random = new Random(7);
+        CompactLinkedHashMap<String, Integer> map = new CompactLinkedHashMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            String key = random.nextInt(16) == 0 ? null : "k" + random.nextInt(40);
+            int value = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0:
+                    Assert.assertEquals(map.remove(key), expected.remove(key));
+                    break;
+                case 1:
+                    Iterator<Map.Entry<String, Integer>> itr = map.entrySet().iterator();
+                    Iterator<Map.Entry<String, Integer>> expectedItr = expected.entrySet().iterator();
+                    while (expectedItr.hasNext()) {
+                        Assert.assertEquals(itr.next(), expectedItr.next());
+                        if (random.nextInt(8) == 0) {
+                            itr.remove();
+                            expectedItr.remove();
+                        }
+                    }
+                    Assert.assertFalse(itr.hasNext());
+                    break;
+                default:
+                    Assert.assertEquals(map.put(key, value), expected.put(key, value));
+                    break;
+            }
+            Assert.assertEquals(map, expected);
+            Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+        }
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    void testFailFastIterator() {
+        CompactLinkedHashMap<String, Integer> map = new CompactLinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        for (String key : map.keySet()) {
+            map.remove(key);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JsonParser class}.
+ */
+public class JsonParserTests {
+
+    private static final String NAME = "\u00e9\u20ac\uD83D\uDE00";
+    private static final String JSON_STR = "[{\"id\":1,\"name\":\"" + NAME + "\",\"ok\":true,\"n\":null}," +
+            "{\"id\":-2,\"name\":\"b\",\"ok\":false,\"n\":-0,\"score\":2.5}]";
+
+    @Test
+    void testParseUtf8Bytes() {
+        BArray fromString = (BArray) JsonParser.parse(JSON_STR);
+        BArray fromBytes = (BArray) JsonParser.parse(JSON_STR.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(fromBytes.toString(), fromString.toString());
+        Assert.assertEquals(((BMap<BString, Object>) fromBytes.get(0)).get(StringUtils.fromString("name")).toString(),
+                NAME);
+        Assert.assertEquals(((BMap<BString, Object>) fromBytes.get(1)).get(StringUtils.fromString("n")), -0.0d);
+    }
+
+    @Test
+    void testParseRemainingBytesOfBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx{\"a\":[1,2]}".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        Assert.assertEquals(StringUtils.getJsonString(JsonParser.parse(buffer)), "{\"a\":[1, 2]}");
+    }
+
+    @Test
+    void testParseNumbers() {
+        Assert.assertEquals(JsonParser.parse("123456789012345678"), 123456789012345678L);
+        Assert.assertEquals(JsonParser.parse("-9223372036854775808"), Long.MIN_VALUE);
+        Assert.assertEquals(JsonParser.parse("-0"), -0.0d);
+        Assert.assertEquals(JsonParser.parse("[007]".getBytes(StandardCharsets.UTF_8)).toString(), "[7]");
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "unrecognized token '9223372036854775808' at line: 1 column: 21")
+    void testParseOutOfRangeInteger() {
+        JsonParser.parse("9223372036854775808".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "unrecognized token 'nul' at line: 1 column: 6")
+    void testParseInvalidLiteral() {
+        JsonParser.parse("[nul]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFieldNamesAreInterned() {
+        BArray array = (BArray) JsonParser.parse("[{\"id\":1},{\"id\":2},{\"\\u0069d\":3}]".getBytes(
+                StandardCharsets.UTF_8));
+        BString key0 = ((BMap<BString, Object>) array.get(0)).getKeys()[0];
+        BString key1 = ((BMap<BString, Object>) array.get(1)).getKeys()[0];
+        BString key2 = ((BMap<BString, Object>) array.get(2)).getKeys()[0];
+        Assert.assertSame(key1, key0);
+        Assert.assertSame(key2, key0);
+        Assert.assertEquals(((BMap<BString, Object>) array.get(2)).get(StringUtils.fromString("id")), 3L);
+    }
+
+    @Test
+    void testParseJsonWhileCreatingRecordValue() {
+        // type Point record {| int x; |};
+        BRecordType pointType = new BRecordType("Point", new Module("testorg", "test", "1"), 0, true, 0);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("x", new BField(PredefinedTypes.TYPE_INT, "x", SymbolFlags.REQUIRED));
+        pointType.setFields(fields);
+
+        // The default value initializers of a record may parse JSON themselves
+        BArray points = (BArray) JsonParser.parse("[{\"x\":1},{\"x\":2}]", new BArrayType(pointType),
+                new JsonParser.TypedValueFactory() {
+                    @Override
+                    public BMap<BString, Object> createRecordValue(RecordType recordType) {
+                        Assert.assertEquals(StringUtils.getJsonString(JsonParser.parse("{\"x\":0}")), "{\"x\":0}");
+                        return new MapValueImpl<>(recordType);
+                    }
+
+                    @Override
+                    public Object convert(Object jsonValue, Type targetType) {
+                        return jsonValue;
+                    }
+                });
+        Assert.assertEquals(points.size(), 2);
+        Assert.assertEquals(((BMap<BString, Object>) points.get(0)).get(StringUtils.fromString("x")), 1L);
+        Assert.assertEquals(((BMap<BString, Object>) points.get(1)).get(StringUtils.fromString("x")), 2L);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the order in which the {@link Scheduler class} runs strands.
+ * <p>
+ * The test task sets BALLERINA_SCHEDULER_MODE to work-stealing, so these run against the work-stealing run queue.
+ */
+public class SchedulerTests {
+
+    private static final int MAX_ROUNDS = 1000;
+
+    @Test
+    public void testInjectedStrandProgressesUnderLocalLoad() {
+        Scheduler scheduler = new Scheduler(1, false);
+        List<Strand> parked = new ArrayList<>();
+        AtomicBoolean injectedRan = new AtomicBoolean();
+        AtomicInteger localRounds = new AtomicInteger();
+        Function<Object[], Object> local = params -> {
+            // The two local strands keep waking each other up, hence the worker never runs out of local work
+            Strand strand = (Strand) params[0];
+            unblockAll(scheduler, parked);
+            if (!injectedRan.get() && localRounds.incrementAndGet() < MAX_ROUNDS) {
+                park(strand, parked);
+            }
+            return null;
+        };
+        Function<Object[], Object> injected = params -> {
+            injectedRan.set(true);
+            return null;
+        };
+
+        schedule(scheduler, "main", params -> {
+            schedule(scheduler, "local1", local);
+            schedule(scheduler, "local2", local);
+            Thread producer = new Thread(() -> schedule(scheduler, "injected", injected));
+            producer.start();
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        scheduler.start();
+
+        Assert.assertTrue(injectedRan.get());
+        Assert.assertTrue(localRounds.get() < MAX_ROUNDS,
+                          "injected strand did not run within " + MAX_ROUNDS + " local rounds");
+    }
+
+    @Test
+    public void testRescheduledStrandsRunInFifoOrder() {
+        Scheduler scheduler = new Scheduler(1, false);
+        List<Strand> parked = new ArrayList<>();
+        List<String> runOrder = new ArrayList<>();
+        int rounds = 3;
+        Function<Object[], Object> worker = params -> {
+            Strand strand = (Strand) params[0];
+            String name = strand.getName().get();
+            runOrder.add(name);
+            unblockAll(scheduler, parked);
+            long runs = runOrder.stream().filter(name::equals).count();
+            if (runs < rounds) {
+                park(strand, parked);
+            }
+            return null;
+        };
+
+        schedule(scheduler, "main", params -> {
+            schedule(scheduler, "w1", worker);
+            schedule(scheduler, "w2", worker);
+            schedule(scheduler, "w3", worker);
+            return null;
+        });
+        scheduler.start();
+
+        // A woken up strand runs only after the strands that were already waiting
+        Assert.assertEquals(runOrder, List.of("w1", "w2", "w3", "w1", "w2", "w3", "w1", "w2", "w3"));
+    }
+
+    private static void schedule(Scheduler scheduler, String name, Function<Object[], Object> function) {
+        scheduler.schedule(new Object[1], function, null, null, name, null);
+    }
+
+    private static void park(Strand strand, List<Strand> parked) {
+        strand.setState(State.BLOCK_AND_YIELD);
+        parked.add(strand);
+    }
+
+    private static void unblockAll(Scheduler scheduler, List<Strand> parked) {
+        for (Strand strand : parked) {
+            scheduler.unblockStrand(strand);
+        }
+        parked.clear();
+    }
+}
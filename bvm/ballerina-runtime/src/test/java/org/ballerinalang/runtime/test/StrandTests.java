@@ -0,0 +1,121 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Test cases for the frame stack and the properties of {@link Strand class}.
+ */
+public class StrandTests {
+
+    @Test
+    void testFrameStackIsAllocatedOnFirstYield() {
+        Strand strand = new Strand("test", null, null, null, null);
+        Assert.assertNull(strand.frames);
+        strand.pushFrame("frame");
+        Assert.assertNotNull(strand.frames);
+        Assert.assertEquals(strand.resumeIndex, 1);
+        Assert.assertEquals(strand.frames[0], "frame");
+    }
+
+    @Test
+    void testFrameStackGrowsForDeeplyNestedYields() {
+        Strand strand = new Strand("test", null, null, null, null);
+        int depth = 1000;
+        for (int i = 0; i < depth; i++) {
+            strand.pushFrame(i);
+        }
+        Assert.assertEquals(strand.resumeIndex, depth);
+        // Frames are resumed in the reverse order they were saved
+        for (int i = depth - 1; i >= 0; i--) {
+            Assert.assertEquals(strand.frames[--strand.resumeIndex], i);
+        }
+    }
+
+    @Test
+    void testReleasedFrameStackIsClearedAndReused() {
+        Object[] frames = runToCompletion(1);
+
+        Strand next = new Strand("next", null, null, null, null);
+        next.pushFrame("other");
+        Assert.assertSame(next.frames, frames);
+        Assert.assertEquals(next.frames[0], "other");
+        for (int i = 1; i < frames.length; i++) {
+            Assert.assertNull(frames[i]);
+        }
+    }
+
+    @Test
+    void testGrownFrameStackIsNotPooled() {
+        Object[] frames = runToCompletion(100);
+
+        Strand next = new Strand("next", null, null, null, null);
+        next.pushFrame("frame");
+        Assert.assertNotSame(next.frames, frames);
+    }
+
+    @Test
+    void testPropertiesAreCopiedToChildStrands() {
+        Strand parent = new Strand("parent", null, null, null, null);
+        Assert.assertNull(parent.getProperty("key"));
+        Strand emptyChild = new Strand("child", null, null, parent, null);
+        Assert.assertNull(emptyChild.getProperty("key"));
+
+        parent.setProperty("key", "value");
+        Strand child = new Strand("child", null, null, parent, null);
+        Assert.assertEquals(child.getProperty("key"), "value");
+        child.setProperty("key", "changed");
+        Assert.assertEquals(parent.getProperty("key"), "value");
+
+        Strand withProperties = new Strand("child", null, null, parent, Map.of("other", "value"));
+        Assert.assertNull(withProperties.getProperty("key"));
+        Assert.assertEquals(withProperties.getProperty("other"), "value");
+    }
+
+    /**
+     * Runs a strand which saves the given number of frames on a single-threaded scheduler, which runs it on the
+     * current thread, and returns the frame stack the strand had when it completed.
+     */
+    private static Object[] runToCompletion(int frameCount) {
+        Scheduler scheduler = new Scheduler(1, false);
+        Object[][] completedFrames = new Object[1][];
+        Strand[] completed = new Strand[1];
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < frameCount; i++) {
+                strand.pushFrame(i);
+            }
+            strand.resumeIndex = 0;
+            completedFrames[0] = strand.frames;
+            completed[0] = strand;
+            return null;
+        };
+        scheduler.schedule(new Object[1], function, null, null, "completed", null);
+        scheduler.start();
+        Assert.assertNull(completed[0].frames);
+        return completedFrames[0];
+    }
+}
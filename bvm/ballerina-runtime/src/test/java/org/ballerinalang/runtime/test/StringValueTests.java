@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,42 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatNonBmp() {
+        BString str = StringUtils.fromString("ab").concat(SUBJECT).concat(SUBJECT);
+        Assert.assertEquals(str.getValue(), "ab" + UNICODE_STR + UNICODE_STR);
+        Assert.assertEquals(str.length(), 34);
+        Assert.assertEquals(str.getCodePoint(3), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(32), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(33), 'r');
+    }
+
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            str = str.concat(StringUtils.fromString(i % 1000 == 0 ? "\uD83D\uDEF8" : "x"));
+            expected.append(i % 1000 == 0 ? "\uD83D\uDEF8" : "x");
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 100000);
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(99000), 0x1F6F8);
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("\uD83D\uDEF8x"), 1), Long.valueOf(1000));
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatFlattenedRope() {
+        BString prefix = StringUtils.fromString("a".repeat(2000));
+        BString rope = prefix.concat(StringUtils.fromString("b"));
+        Assert.assertEquals(rope.length(), 2001);
+        Assert.assertEquals(rope.getValue().charAt(2000), 'b');
+        BString str = rope.concat(StringUtils.fromString("c")).concat(rope);
+        Assert.assertEquals(str.getValue(), rope.getValue() + "c" + rope.getValue());
+        Assert.assertEquals(str.substring(1999, 2003).getValue(), "abca");
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.TableUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for the row list and the indexes of table values.
+ */
+public class TableValueImplTests {
+
+    private static final Module MODULE = new Module("testorg", "test", "1");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    void testIterateAfterRemove() {
+        BTable<Object, BMap<BString, Object>> table = createIntKeyTable();
+        for (long id = 1; id <= 5; id++) {
+            table.add(createRow(table, id, "row" + id));
+        }
+        table.remove(2L);
+        table.remove(4L);
+        table.remove(5L);
+        table.add(createRow(table, 6L, "row6"));
+
+        Assert.assertEquals(ids(table), List.of(1L, 3L, 6L));
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertNull(table.get(2L));
+        Assert.assertEquals(table.get(6L).get(NAME).toString(), "row6");
+    }
+
+    @Test
+    void testRemoveCurrentRowWhileIterating() {
+        BTable<Object, BMap<BString, Object>> table = createIntKeyTable();
+        for (long id = 1; id <= 4; id++) {
+            table.add(createRow(table, id, "row" + id));
+        }
+
+        List<Object> visited = new ArrayList<>();
+        Iterator<BMap<BString, Object>> iterator = table.values().iterator();
+        while (iterator.hasNext()) {
+            Object id = iterator.next().get(ID);
+            visited.add(id);
+            table.remove(id);
+        }
+        Assert.assertEquals(visited, List.of(1L, 2L, 3L, 4L));
+        Assert.assertEquals(table.size(), 0);
+    }
+
+    @Test
+    void testRemoveLastInsertedRowWhileIterating() {
+        BTable<Object, BMap<BString, Object>> table = createIntKeyTable();
+        for (long id = 1; id <= 3; id++) {
+            table.add(createRow(table, id, "row" + id));
+        }
+
+        Iterator<BMap<BString, Object>> iterator = table.values().iterator();
+        iterator.next();
+        iterator.next();
+        Assert.assertEquals(iterator.next().get(ID), 3L);
+        // The iterator is positioned on the removed row, and continues with the rows added afterwards
+        table.remove(3L);
+        table.remove(2L);
+        Assert.assertFalse(iterator.hasNext());
+        table.add(createRow(table, 4L, "row4"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(iterator.next().get(ID), 4L);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(ids(table), List.of(1L, 4L));
+    }
+
+    @Test
+    void testIndexGrowth() {
+        BTable<Object, BMap<BString, Object>> table = createIntKeyTable();
+        int count = 10000;
+        for (long id = 0; id < count; id++) {
+            table.add(createRow(table, id * 1024, "row" + id));
+        }
+        for (long id = 0; id < count; id += 2) {
+            table.remove(id * 1024);
+        }
+
+        Assert.assertEquals(table.size(), count / 2);
+        for (long id = 0; id < count; id++) {
+            if (id % 2 == 0) {
+                Assert.assertFalse(table.containsKey(id * 1024));
+            } else {
+                Assert.assertEquals(table.get(id * 1024).get(NAME).toString(), "row" + id);
+            }
+        }
+        Assert.assertEquals(table.getNextKey(), (count - 1) * 1024L + 1);
+    }
+
+    @Test
+    void testCollidingKeys() {
+        BTable<Object, BMap<BString, Object>> table = createTable(PredefinedTypes.TYPE_STRING);
+        // All these strings have the same hash code
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        for (String key : keys) {
+            table.add(createRow(table, StringUtils.fromString(key), key.toLowerCase()));
+        }
+
+        table.remove(StringUtils.fromString("AaBB"));
+        Assert.assertFalse(table.containsKey(StringUtils.fromString("AaBB")));
+        for (String key : new String[]{"AaAa", "BBAa", "BBBB"}) {
+            Assert.assertEquals(table.get(StringUtils.fromString(key)).get(NAME).toString(), key.toLowerCase());
+        }
+
+        BMap<BString, Object> duplicate = createRow(table, StringUtils.fromString("BBBB"), "duplicate");
+        Assert.assertThrows(() -> table.add(duplicate));
+        Assert.assertEquals(table.size(), 3);
+    }
+
+    @Test
+    void testConcurrentFieldLookupsOnReadOnlyTable() throws Exception {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int round = 0; round < 50; round++) {
+                BTable<Object, BMap<BString, Object>> table = createKeylessTable(1000);
+                table.freezeDirect();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> lookups = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    long id = t;
+                    lookups.add(executor.submit(() -> {
+                        start.await();
+                        // Threads index both fields concurrently, and each thread looks up rows through both
+                        BArray byName = (BArray) TableUtils.getRowsWithFieldValue(
+                                table, NAME, StringUtils.fromString("row" + (id % 10)));
+                        BArray byId = (BArray) TableUtils.getRowsWithFieldValue(table, ID, id);
+                        Assert.assertEquals(byName.size(), 100);
+                        Assert.assertEquals(byId.size(), 1);
+                        Assert.assertEquals(((BMap<?, ?>) byId.get(0)).get(ID), id);
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> lookup : lookups) {
+                    lookup.get();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<Object> ids(BTable<Object, BMap<BString, Object>> table) {
+        List<Object> ids = new ArrayList<>();
+        for (BMap<BString, Object> row : table.values()) {
+            ids.add(row.get(ID));
+        }
+        return ids;
+    }
+
+    private static BTable<Object, BMap<BString, Object>> createIntKeyTable() {
+        return createTable(PredefinedTypes.TYPE_INT);
+    }
+
+    private static BTable<Object, BMap<BString, Object>> createTable(Type keyType) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(keyType, "id", SymbolFlags.REQUIRED | SymbolFlags.READONLY));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        RecordType rowType = TypeCreator.createRecordType("Row", MODULE, 0, fields, null, true, 0);
+        return ValueCreator.createTableValue(TypeCreator.createTableType(rowType, new String[]{"id"}, false));
+    }
+
+    private static BTable<Object, BMap<BString, Object>> createKeylessTable(int rowCount) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        RecordType rowType = TypeCreator.createRecordType("Row", MODULE, 0, fields, null, true, 0);
+        BTable<Object, BMap<BString, Object>> table =
+                ValueCreator.createTableValue(TypeCreator.createTableType(rowType, false));
+        for (long id = 0; id < rowCount; id++) {
+            table.add(createRow(table, id, "row" + (id % 10)));
+        }
+        return table;
+    }
+
+    private static BMap<BString, Object> createRow(BTable<Object, BMap<BString, Object>> table,
+                                                       Object id, String name) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(((TableType) table.getType()).getConstrainedType());
+        row.put(ID, id);
+        row.put(NAME, StringUtils.fromString(name));
+        return row;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BErrorType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the subtype checks cached by {@link TypeCheckCache class}.
+ */
+public class TypeCheckCacheTests {
+
+    private static final Module MODULE = new Module("testorg", "test", "1");
+
+    @BeforeMethod
+    void clearCache() {
+        TypeCheckCache.clear();
+    }
+
+    @Test
+    void testCachedResultIsReused() {
+        BRecordType source = createRecord("Source", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType other = createRecord("Other", Map.of("a", PredefinedTypes.TYPE_STRING));
+
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertFalse(TypeChecker.checkIsType(other, target));
+        Assert.assertFalse(TypeChecker.checkIsType(other, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 2);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 2);
+    }
+
+    @Test
+    void testRecursiveTypes() {
+        // type Node record {| int value; Node? next; |}; declared twice, and populated like the generated code does
+        BRecordType node = new BRecordType("Node", MODULE, 0, true, 0);
+        BRecordType otherNode = new BRecordType("OtherNode", MODULE, 0, true, 0);
+        Assert.assertTrue(TypeChecker.checkIsType(node, otherNode));
+
+        setFields(node, Map.of("value", PredefinedTypes.TYPE_INT,
+                               "next", new BUnionType(List.of(node, PredefinedTypes.TYPE_NULL))));
+        setFields(otherNode, Map.of("value", PredefinedTypes.TYPE_INT,
+                                    "next", new BUnionType(List.of(otherNode, PredefinedTypes.TYPE_NULL))));
+        // The result computed before the fields were set is not used anymore
+        Assert.assertTrue(TypeChecker.checkIsType(node, otherNode));
+        Assert.assertTrue(TypeChecker.checkIsType(node, otherNode));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+
+        BRecordType stringNode = new BRecordType("StringNode", MODULE, 0, true, 0);
+        setFields(stringNode, Map.of("value", PredefinedTypes.TYPE_STRING,
+                                     "next", new BUnionType(List.of(stringNode, PredefinedTypes.TYPE_NULL))));
+        Assert.assertFalse(TypeChecker.checkIsType(node, stringNode));
+        Assert.assertFalse(TypeChecker.checkIsType(node, stringNode));
+    }
+
+    @Test
+    void testChangedTypeIsCheckedAgain() {
+        BRecordType source = createRecord("Source", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", Map.of("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        setFields(target, Map.of("a", PredefinedTypes.TYPE_INT, "b", PredefinedTypes.TYPE_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+    }
+
+    @Test
+    void testChangedRestFieldTypeIsCheckedAgain() {
+        BRecordType source = createOpenRecord("Source", PredefinedTypes.TYPE_STRING);
+        BRecordType target = createOpenRecord("Target", PredefinedTypes.TYPE_INT);
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        target.setRestFieldType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+    }
+
+    @Test
+    void testChangedUnionMembersAreCheckedAgain() {
+        BRecordType source = createRecord("Source", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType other = createRecord("Other", Map.of("a", PredefinedTypes.TYPE_STRING));
+        BUnionType target = new BUnionType(List.of(other, PredefinedTypes.TYPE_NULL));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+
+        target.setMemberTypes(List.of(other, source, PredefinedTypes.TYPE_NULL));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+    }
+
+    @Test
+    void testBuildingNewTypesKeepsCachedResults() {
+        BRecordType source = createRecord("Source", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", Map.of("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // Types created at runtime, e.g. when converting a value to a new type, are built after they are created
+        BRecordType newType = createOpenRecord("New", PredefinedTypes.TYPE_INT);
+        newType.setRestFieldType(PredefinedTypes.TYPE_STRING);
+        new BUnionType(List.of(PredefinedTypes.TYPE_INT)).setMemberTypes(List.of(newType, PredefinedTypes.TYPE_NULL));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+    }
+
+    @Test
+    void testNewErrorTypeKeepsCachedResults() {
+        BRecordType source = createRecord("Source", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType target = createRecord("Target", Map.of("a", PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // Error values create a new error type each, which cannot be in any cached result
+        new BErrorType("error", MODULE, PredefinedTypes.TYPE_ERROR_DETAIL);
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        BRecordType target = createRecord("Target", Map.of("a", PredefinedTypes.TYPE_INT));
+        BRecordType frequent = createRecord("Frequent", Map.of("a", PredefinedTypes.TYPE_INT));
+        List<BRecordType> sources = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            sources.add(createRecord("Source" + i, Map.of("a", PredefinedTypes.TYPE_INT)));
+        }
+
+        Assert.assertTrue(TypeChecker.checkIsType(frequent, target));
+        for (BRecordType source : sources) {
+            Assert.assertTrue(TypeChecker.checkIsType(source, target));
+            // Keeps the result of the frequently checked pair in the cache
+            Assert.assertTrue(TypeChecker.checkIsType(frequent, target));
+        }
+        Assert.assertTrue(TypeCheckCache.size() <= 4096);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1 + sources.size());
+    }
+
+    private static BRecordType createRecord(String name, Map<String, Type> fieldTypes) {
+        BRecordType recordType = new BRecordType(name, MODULE, 0, true, 0);
+        setFields(recordType, fieldTypes);
+        return recordType;
+    }
+
+    private static BRecordType createOpenRecord(String name, Type restFieldType) {
+        BRecordType recordType = new BRecordType(name, MODULE, 0, false, 0);
+        setFields(recordType, Map.of("a", PredefinedTypes.TYPE_INT));
+        recordType.setRestFieldType(restFieldType);
+        return recordType;
+    }
+
+    private static void setFields(BRecordType recordType, Map<String, Type> fieldTypes) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fieldTypes.forEach((name, type) -> fields.put(name, new BField(type, name, SymbolFlags.REQUIRED)));
+        recordType.setFields(fields);
+    }
+}
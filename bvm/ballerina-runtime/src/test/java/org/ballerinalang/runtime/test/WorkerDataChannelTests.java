@@ -0,0 +1,96 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the async sends of {@link WorkerDataChannel class}.
+ */
+public class WorkerDataChannelTests {
+
+    @Test
+    void testWaitingReceiverIsUnblockedBySend() throws Throwable {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand receiver = new Strand("receiver", null, scheduler, null, null);
+        WorkerDataChannel channel = new WorkerDataChannel("channel");
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertTrue(receiver.isBlocked());
+        channel.sendData(1L, null);
+        Assert.assertEquals(scheduler.unblocked.availablePermits(), 1);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+    }
+
+    @Test
+    void testAsyncSendsAreReceivedInOrderWithoutLostWakeups() throws Throwable {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand receiver = new Strand("receiver", null, scheduler, null, null);
+        WorkerDataChannel channel = new WorkerDataChannel("channel");
+        int count = 100000;
+
+        Thread sender = new Thread(() -> {
+            for (long i = 0; i < count; i++) {
+                channel.sendData(i, null);
+            }
+        });
+        sender.start();
+        try {
+            for (long i = 0; i < count; i++) {
+                Object data = channel.tryTakeData(receiver);
+                while (data == null) {
+                    // A wakeup lost between the send and the receiver parking would leave the receiver blocked
+                    Assert.assertTrue(scheduler.unblocked.tryAcquire(10, TimeUnit.SECONDS),
+                                      "receiver is not unblocked while waiting for message " + i);
+                    receiver.setState(State.RUNNABLE);
+                    data = channel.tryTakeData(receiver);
+                }
+                Assert.assertEquals(data, i);
+            }
+        } finally {
+            sender.join();
+        }
+        Assert.assertNull(channel.tryTakeData(receiver));
+    }
+
+    /**
+     * Scheduler which records the strands unblocked by the channel instead of rescheduling them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        final Semaphore unblocked = new Semaphore(0);
+
+        RecordingScheduler() {
+            super(1, false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblocked.release();
+        }
+    }
+}
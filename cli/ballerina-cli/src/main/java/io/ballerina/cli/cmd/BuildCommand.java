@@ -143,6 +143,17 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--dump-build-time", hidden = true)
+    private Boolean dumpBuildTime;
+
+    @CommandLine.Option(names = "--incremental", description = "Reuse the compiled output of the modules that have " +
+            "not changed since the previous build.")
+    private Boolean incrementalBuild;
+
+    @CommandLine.Option(names = "--parallel-codegen", description = "Generate the platform-specific code of " +
+            "independent modules in parallel.")
+    private Boolean parallelCodeGen;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -225,7 +236,8 @@ public class BuildCommand implements BLauncherCmd {
         }
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)   // clean the target directory(projects only)
+                // clean the target directory(projects only)
+                .addTask(new CleanTargetDirTask(project.buildOptions().incrementalBuild()), isSingleFileBuild)
                 .addTask(new CreateTargetDirTask()) // create target directory
 //                .addTask(new ResolveMavenDependenciesTask()) // resolve maven dependencies in Ballerina.toml
                 .addTask(new CompileTask(outStream, errStream)) // compile the modules
@@ -254,6 +266,9 @@ public class BuildCommand implements BLauncherCmd {
                 .skipTests(skipTests)
                 .testReport(testReport)
                 .observabilityIncluded(observabilityIncluded)
+                .dumpBuildTime(dumpBuildTime)
+                .incrementalBuild(incrementalBuild)
+                .parallelCodeGen(parallelCodeGen)
                 .build();
     }
 
@@ -31,11 +31,21 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
  * @since 2.0.0
  */
 public class CleanTargetDirTask implements Task {
+    private final boolean keepBuildCaches;
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
+    public CleanTargetDirTask(boolean keepBuildCaches) {
+        this.keepBuildCaches = keepBuildCaches;
+    }
+
     @Override
     public void execute(Project project) {
         try {
             Target target = new Target(project.sourceRoot());
-            target.clean();
+            target.clean(keepBuildCaches);
         } catch (IOException e) {
             throw createLauncherException("Unable to clean the target directory: " + e.getMessage());
         }
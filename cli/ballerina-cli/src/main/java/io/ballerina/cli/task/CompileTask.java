@@ -67,6 +67,7 @@ public class CompileTask implements Task {
         try {
             PackageCompilation packageCompilation = project.currentPackage().getCompilation();
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JdkVersion.JAVA_11);
+            jBallerinaBackend.codeGenTime().ifPresent(this.out::println);
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics().forEach(d -> err.println(convertDiagnosticToString(d)));
             if (diagnosticResult.hasErrors()) {
@@ -107,6 +107,7 @@ public class CreateExecutableTask implements Task {
             PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JdkVersion.JAVA_11);
             jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+            jBallerinaBackend.executableAssemblyTime().ifPresent(this.out::println);
         } catch (ProjectException e) {
             throw createLauncherException(e.getMessage());
         }
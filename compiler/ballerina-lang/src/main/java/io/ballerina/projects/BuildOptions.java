@@ -59,6 +59,18 @@ public class BuildOptions {
         return this.compilationOptions.observabilityIncluded();
     }
 
+    public boolean dumpBuildTime() {
+        return this.compilationOptions.dumpBuildTime();
+    }
+
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
+    public boolean parallelCodeGen() {
+        return this.compilationOptions.parallelCodeGen();
+    }
+
     CompilationOptions compilationOptions() {
         return compilationOptions;
     }
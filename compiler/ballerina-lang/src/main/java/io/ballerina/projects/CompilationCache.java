@@ -37,6 +37,29 @@ public abstract class CompilationCache {
 
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
+    /**
+     * Returns the BIR of the given module if it was cached along with the given cache key.
+     * <p>
+     * The cache key identifies the sources and dependencies the cached BIR and platform libraries were generated
+     * from. Caches that do not support incremental compilation return an empty value.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   cache key of the module
+     * @return the cached BIR of the module, if it is up-to-date with the given cache key
+     */
+    public Optional<byte[]> getBir(ModuleName moduleName, String cacheKey) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the given cache key against the BIR and the platform libraries cached for the given module.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   cache key of the module
+     */
+    public void cacheKey(ModuleName moduleName, String cacheKey) {
+    }
+
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
 
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
@@ -29,12 +29,19 @@ class CompilationOptions {
     private Boolean offlineBuild;
     private Boolean experimental;
     private Boolean observabilityIncluded;
+    private Boolean dumpBuildTime;
+    private Boolean incrementalBuild;
+    private Boolean parallelCodeGen;
 
-    CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental, Boolean observabilityIncluded) {
+    CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental, Boolean observabilityIncluded,
+                       Boolean dumpBuildTime, Boolean incrementalBuild, Boolean parallelCodeGen) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
+        this.dumpBuildTime = dumpBuildTime;
+        this.incrementalBuild = incrementalBuild;
+        this.parallelCodeGen = parallelCodeGen;
     }
 
     boolean skipTests() {
@@ -53,6 +60,18 @@ class CompilationOptions {
         return toBooleanDefaultIfNull(observabilityIncluded);
     }
 
+    boolean dumpBuildTime() {
+        return toBooleanDefaultIfNull(dumpBuildTime);
+    }
+
+    boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(incrementalBuild);
+    }
+
+    boolean parallelCodeGen() {
+        return toBooleanDefaultIfNull(parallelCodeGen);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -69,6 +88,12 @@ class CompilationOptions {
                 theirOptions.experimental, () -> toBooleanDefaultIfNull(this.experimental));
         this.observabilityIncluded = Objects.requireNonNullElseGet(
                 theirOptions.observabilityIncluded, () -> toBooleanDefaultIfNull(this.observabilityIncluded));
+        this.dumpBuildTime = Objects.requireNonNullElseGet(
+                theirOptions.dumpBuildTime, () -> toBooleanDefaultIfNull(this.dumpBuildTime));
+        this.incrementalBuild = Objects.requireNonNullElseGet(
+                theirOptions.incrementalBuild, () -> toBooleanDefaultIfNull(this.incrementalBuild));
+        this.parallelCodeGen = Objects.requireNonNullElseGet(
+                theirOptions.parallelCodeGen, () -> toBooleanDefaultIfNull(this.parallelCodeGen));
 
         return this;
     }
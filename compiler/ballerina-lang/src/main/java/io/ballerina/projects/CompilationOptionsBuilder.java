@@ -29,6 +29,9 @@ class CompilationOptionsBuilder {
     private Boolean buildOffline;
     private Boolean experimental;
     private Boolean observabilityIncluded;
+    private Boolean dumpBuildTime;
+    private Boolean incrementalBuild;
+    private Boolean parallelCodeGen;
 
     public CompilationOptionsBuilder() {
     }
@@ -53,7 +56,23 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder dumpBuildTime(Boolean value) {
+        dumpBuildTime = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder parallelCodeGen(Boolean value) {
+        parallelCodeGen = value;
+        return this;
+    }
+
     public CompilationOptions build() {
-        return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded);
+        return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBuildTime,
+                incrementalBuild, parallelCodeGen);
     }
 }
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,6 +74,7 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private SyntaxTree syntaxTree;
         private String name;
         private DocumentId documentId;
         private Module oldModule;
@@ -79,7 +82,7 @@ public class Document {
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
-            this.content = oldDocument.syntaxTree().textDocument().toString();
+            this.syntaxTree = oldDocument.syntaxTree();
             this.oldModule = oldDocument.module();
         }
 
@@ -91,6 +94,25 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.syntaxTree = null;
+            return this;
+        }
+
+        /**
+         * Applies the given text edits to the current content. The syntax tree of the new content is
+         * reparsed incrementally from the syntax tree of the current content.
+         * <p>
+         * Changes are applied in the order this method is invoked, and the ranges of a change are relative to
+         * the content produced by the previous change.
+         *
+         * @param textDocumentChange text edits to apply
+         * @return Document.Modifier that holds the changed content
+         */
+        public Modifier withChange(TextDocumentChange textDocumentChange) {
+            SyntaxTree oldSyntaxTree = this.syntaxTree != null ? this.syntaxTree :
+                    SyntaxTree.from(TextDocuments.from(this.content), this.name);
+            this.syntaxTree = SyntaxTree.from(oldSyntaxTree, textDocumentChange);
+            this.content = null;
             return this;
         }
 
@@ -100,9 +122,14 @@ public class Document {
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext;
+            if (this.syntaxTree != null) {
+                documentContext = DocumentContext.from(this.documentId, this.name, this.syntaxTree);
+            } else {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
+                        this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
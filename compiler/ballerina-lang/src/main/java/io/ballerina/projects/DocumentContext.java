@@ -69,6 +69,14 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    static DocumentContext from(DocumentId documentId, String name, SyntaxTree syntaxTree) {
+        // The content is not materialized, since the text document of the syntax tree is already available
+        DocumentContext documentContext = new DocumentContext(documentId, name, null);
+        documentContext.syntaxTree = syntaxTree;
+        documentContext.textDocument = syntaxTree.textDocument();
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
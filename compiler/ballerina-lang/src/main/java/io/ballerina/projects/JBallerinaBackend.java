@@ -20,16 +20,13 @@ package io.ballerina.projects;
 import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
+import io.ballerina.projects.internal.jballerina.ExecutableJarAssembler;
 import io.ballerina.projects.internal.jballerina.JarWriter;
 import io.ballerina.projects.testsuite.TestSuite;
 import io.ballerina.projects.testsuite.TesterinaRegistry;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
-import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
-import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
-import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
@@ -40,14 +37,11 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
-import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -55,12 +49,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
-import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -79,7 +75,6 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
-    private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
 
     private final PackageResolution pkgResolution;
     private final JdkVersion jdkVersion;
@@ -91,6 +86,10 @@ public class JBallerinaBackend extends CompilerBackend {
     private final CompilerOptions compilerOptions;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
+    private String codeGenTime;
+    private String executableAssemblyTime;
+    private ForkJoinPool codeGenExecutor;
+    private Map<ModuleId, CompletableFuture<Void>> codeGenTasks;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JdkVersion jdkVersion) {
         return packageCompilation.getCompilerBackend(jdkVersion,
@@ -121,20 +120,123 @@ public class JBallerinaBackend extends CompilerBackend {
             return;
         }
 
+        CompilationOptions compilationOptions = packageContext.compilationOptions();
+        ThreadMXBean threadMXBean = compilationOptions.dumpBuildTime() ? ManagementFactory.getThreadMXBean() : null;
+        long startTime = System.currentTimeMillis();
+        long startCpuTime = threadMXBean != null ? totalThreadCpuTime(threadMXBean) : 0;
+        long endCpuTime = 0;
+
+        jvmCodeGenerator.initCodeGen();
+        boolean parallelCodeGen = isParallelCodeGenEnabled(compilationOptions);
+        if (parallelCodeGen) {
+            codeGenExecutor = new ForkJoinPool();
+            codeGenTasks = new HashMap<>();
+        }
+        List<ModuleContext> moduleContexts = pkgResolution.topologicallySortedModuleList();
+        try {
+            for (ModuleContext moduleContext : moduleContexts) {
+                // The remaining compilation phases of a module read the symbols of its dependencies, which are
+                // rewritten by the code generation of those dependencies.
+                for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+                    awaitCodeGen(moduleDependency.moduleId());
+                }
+                moduleContext.generatePlatformSpecificCode(compilerContext, this);
+            }
+            for (ModuleContext moduleContext : moduleContexts) {
+                awaitCodeGen(moduleContext.moduleId());
+            }
+            if (threadMXBean != null) {
+                endCpuTime = totalThreadCpuTime(threadMXBean);
+            }
+        } finally {
+            if (parallelCodeGen) {
+                codeGenExecutor.shutdown();
+                codeGenExecutor = null;
+                codeGenTasks = null;
+            }
+        }
+
         List<Diagnostic> diagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
-            moduleContext.generatePlatformSpecificCode(compilerContext, this);
+        for (ModuleContext moduleContext : moduleContexts) {
             diagnostics.addAll(moduleContext.diagnostics());
+            moduleContext.cacheCompilationKey(compilerContext);
+        }
+
+        if (threadMXBean != null) {
+            codeGenTime = "code generation (" + (parallelCodeGen ? "parallel" : "sequential") + "): " +
+                    moduleContexts.size() + " modules, wall " + (System.currentTimeMillis() - startTime) +
+                    " ms, cpu " + TimeUnit.NANOSECONDS.toMillis(endCpuTime - startCpuTime) + " ms";
         }
 
         this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
         codeGenCompleted = true;
     }
 
+    /**
+     * Returns whether the JVM code of the modules can be generated in parallel. The instrumentation added for
+     * observability and the bootstrapping of lang libs define symbols during code generation, hence both of them
+     * are generated sequentially.
+     */
+    private boolean isParallelCodeGenEnabled(CompilationOptions compilationOptions) {
+        return compilationOptions.parallelCodeGen() && !compilationOptions.observabilityIncluded()
+                && System.getProperty("BOOTSTRAP_LANG_LIB") == null;
+    }
+
+    private void awaitCodeGen(ModuleId moduleId) {
+        if (codeGenTasks == null) {
+            return;
+        }
+
+        CompletableFuture<Void> codeGenTask = codeGenTasks.get(moduleId);
+        if (codeGenTask == null) {
+            return;
+        }
+
+        try {
+            codeGenTask.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static long totalThreadCpuTime(ThreadMXBean threadMXBean) {
+        long totalCpuTime = 0;
+        for (long threadId : threadMXBean.getAllThreadIds()) {
+            long cpuTime = threadMXBean.getThreadCpuTime(threadId);
+            if (cpuTime > 0) {
+                totalCpuTime += cpuTime;
+            }
+        }
+        return totalCpuTime;
+    }
+
     public DiagnosticResult diagnosticResult() {
         return diagnosticResult;
     }
 
+    /**
+     * Returns the time taken to generate the platform-specific code of the modules, which is only measured when the
+     * build time is to be dumped.
+     *
+     * @return a summary of the code generation time
+     */
+    public Optional<String> codeGenTime() {
+        return Optional.ofNullable(codeGenTime);
+    }
+
+    /**
+     * Returns the time taken to assemble the executable jar, which is only measured when the build time is to be
+     * dumped.
+     *
+     * @return a summary of the executable jar assembly time
+     */
+    public Optional<String> executableAssemblyTime() {
+        return Optional.ofNullable(executableAssemblyTime);
+    }
+
     // TODO EmitResult should not contain compilation diagnostics.
     public EmitResult emit(OutputType outputType, Path filePath) {
         if (diagnosticResult.hasErrors()) {
@@ -223,6 +325,17 @@ public class JBallerinaBackend extends CompilerBackend {
     // TODO This method should be moved to some other class owned by the JBallerinaBackend
     @Override
     public void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache) {
+        if (codeGenTasks == null) {
+            generateJar(moduleContext, compilationCache);
+            return;
+        }
+
+        // The code generation of all the dependencies of the module is completed at this point
+        codeGenTasks.put(moduleContext.moduleId(), CompletableFuture.runAsync(
+                () -> generateJar(moduleContext, compilationCache), codeGenExecutor));
+    }
+
+    private void generateJar(ModuleContext moduleContext, CompilationCache compilationCache) {
         BLangPackage bLangPackage = moduleContext.bLangPackage();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(moduleContext.moduleId(), this, bLangPackage);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
@@ -269,6 +382,10 @@ public class JBallerinaBackend extends CompilerBackend {
      * @return test suite
      */
     public Optional<TestSuite> testSuite(Module module) {
+        // Modules reused from the compilation cache are never compiled with tests
+        if (module.moduleContext().isLoadedFromCompilationCache()) {
+            return Optional.empty();
+        }
         if (module.project().kind() != ProjectKind.SINGLE_FILE_PROJECT
                 && !module.moduleContext().bLangPackage().hasTestablePackage()) {
             return Optional.empty();
@@ -367,39 +484,23 @@ public class JBallerinaBackend extends CompilerBackend {
     private void assembleExecutableJar(Path executableFilePath,
                                        Manifest manifest,
                                        Collection<Path> jarFilePaths) throws IOException {
-        // Used to prevent adding duplicated entries during the final jar creation.
-        HashSet<String> copiedEntries = new HashSet<>();
-
-        // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
-        // service loader related information should be merged together in the final executable jar creation.
-        HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-
-        try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
-                new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
-            writeManifest(manifest, outStream);
-
-            // Copy all the jars
-            for (Path jarFilePath : jarFilePaths) {
-                copyJar(outStream, jarFilePath, copiedEntries, serviceEntries);
-            }
-
-            // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
-            }
+        // The jars generated for the root package are the only inputs expected to change between builds.
+        List<Path> rootPackageJarPaths = new ArrayList<>();
+        for (ModuleId moduleId : packageContext.moduleIds()) {
+            ModuleName moduleName = packageContext.moduleContext(moduleId).moduleName();
+            rootPackageJarPaths.add(codeGeneratedLibrary(packageContext.packageId(), moduleName).path());
         }
-    }
 
-    private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
-        JarArchiveEntry e = new JarArchiveEntry(JarFile.MANIFEST_NAME);
-        outStream.putArchiveEntry(e);
-        manifest.write(new BufferedOutputStream(outStream));
-        outStream.closeArchiveEntry();
+        // Observability symbols are written into the executable after it is assembled, so the previous executable
+        // cannot be reused in that case.
+        CompilationOptions compilationOptions = packageContext.compilationOptions();
+        boolean incremental = compilationOptions.incrementalBuild() && !compilationOptions.observabilityIncluded();
+        ExecutableJarAssembler assembler = new ExecutableJarAssembler(executableFilePath, manifest, jarFilePaths,
+                rootPackageJarPaths, incremental);
+        assembler.assemble();
+        if (compilationOptions.dumpBuildTime()) {
+            executableAssemblyTime = assembler.assemblyTime();
+        }
     }
 
     private Manifest createManifest() {
@@ -423,71 +524,6 @@ public class JBallerinaBackend extends CompilerBackend {
         return manifest;
     }
 
-    /**
-     * Copies a given jar file into the executable fat jar.
-     *
-     * @param outStream     Output stream of the final uber jar.
-     * @param jarFilePath   Path of the source jar file.
-     * @param copiedEntries Entries set will be used to ignore duplicate files.
-     * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
-     */
-    private void copyJar(ZipArchiveOutputStream outStream, Path jarFilePath, HashSet<String> copiedEntries,
-                         HashMap<String, StringBuilder> services) throws IOException {
-
-        ZipFile zipFile = new ZipFile(jarFilePath.toFile());
-        ZipArchiveEntryPredicate predicate = entry -> {
-            String entryName = entry.getName();
-            if (entryName.equals("META-INF/MANIFEST.MF")) {
-                return false;
-            }
-
-            if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
-                }
-                char c = '\n';
-
-                int len;
-                try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-                if (c != '\n') {
-                    s.append('\n');
-                }
-
-                // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                // separately. Therefore the predicate should be set as false.
-                return false;
-            }
-
-            // Skip already copied files or excluded extensions.
-            if (isCopiedOrExcludedEntry(entryName, copiedEntries)) {
-                return false;
-            }
-            // SPIs will be merged first and then put into jar separately.
-            copiedEntries.add(entryName);
-            return true;
-        };
-
-        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-        // all the other original attributes.
-        zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
-    }
-
-    private static boolean isCopiedOrExcludedEntry(String entryName, HashSet<String> copiedEntries) {
-        return copiedEntries.contains(entryName) ||
-                excludeExtensions.contains(entryName.substring(entryName.lastIndexOf(".") + 1));
-    }
-
     private PlatformLibrary codeGeneratedLibrary(PackageId packageId,
                                                  ModuleName moduleName,
                                                  PlatformLibraryScope scope,
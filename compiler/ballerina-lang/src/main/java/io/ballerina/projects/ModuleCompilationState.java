@@ -42,6 +42,10 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
+            if (ModuleContext.loadFromCompilationCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -51,8 +55,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     PARSED {
@@ -71,6 +75,10 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
+            if (ModuleContext.loadFromCompilationCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -80,8 +88,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     DEPENDENCIES_RESOLVED_FROM_SOURCES {
@@ -97,6 +105,10 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
+            if (ModuleContext.loadFromCompilationCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -106,8 +118,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     COMPILED {
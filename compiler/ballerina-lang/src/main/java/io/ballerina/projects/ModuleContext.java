@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
@@ -28,6 +29,7 @@ import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -35,11 +37,17 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -58,6 +66,9 @@ import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
  * @since 2.0.0
  */
 class ModuleContext {
+    // Update this whenever the inputs of the compilation cache key change
+    private static final String COMPILATION_CACHE_KEY_VERSION = "1";
+
     private final ModuleId moduleId;
     private final ModuleDescriptor moduleDescriptor;
     private final Collection<DocumentId> srcDocIds;
@@ -76,6 +87,7 @@ class ModuleContext {
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
+    private String compilationCacheKey;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -209,6 +221,111 @@ class ModuleContext {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns whether this module was loaded from a cached BIR instead of being compiled from its sources.
+     *
+     * @return true if this module does not have a {@code BLangPackage}
+     */
+    boolean isLoadedFromCompilationCache() {
+        return bLangPackage == null && bPackageSymbol != null;
+    }
+
+    /**
+     * Returns the key that identifies the compiled output of this module in the compilation cache.
+     * <p>
+     * The key is computed from the compiler version, the source documents of this module and the keys of the modules
+     * it depends on. Modules of other packages contribute the hash of their BIR instead.
+     *
+     * @return the compilation cache key of this module
+     */
+    private String compilationCacheKey() {
+        if (compilationCacheKey != null) {
+            return compilationCacheKey;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+        updateDigest(digest, COMPILATION_CACHE_KEY_VERSION);
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, descriptor().moduleCompilationId().toString());
+        updateDigest(digest, Boolean.toString(project.currentPackage().packageContext().compilationOptions()
+                .experimental()));
+
+        for (DocumentContext documentContext : sortedDocumentContexts(srcDocContextMap.values())) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.textDocument().toString());
+        }
+
+        PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+        PackageId currentPackageId = project.currentPackage().packageId();
+        List<String> dependencyKeys = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            PackageId dependencyPackageId = moduleDependency.packageDependency().packageId();
+            ModuleContext dependencyContext = packageCache.getPackageOrThrow(dependencyPackageId)
+                    .module(moduleDependency.moduleId()).moduleContext();
+            if (dependencyPackageId.equals(currentPackageId)) {
+                dependencyKeys.add(dependencyContext.compilationCacheKey());
+            } else if (dependencyContext.birBytes.length != 0) {
+                dependencyKeys.add(toHexString(sha256(dependencyContext.birBytes)));
+            } else {
+                dependencyKeys.add(dependencyContext.descriptor().moduleCompilationId().toString());
+            }
+        }
+        Collections.sort(dependencyKeys);
+        for (String dependencyKey : dependencyKeys) {
+            updateDigest(digest, dependencyKey);
+        }
+
+        compilationCacheKey = toHexString(digest.digest());
+        return compilationCacheKey;
+    }
+
+    /**
+     * Returns whether the compiled output of this module can be stored in and reused from the compilation cache.
+     * <p>
+     * Modules whose tests are compiled are always compiled from sources, since running tests requires the
+     * {@code BLangPackage} of the module.
+     */
+    private boolean isCompilationCacheEnabled(CompilerContext compilerContext) {
+        CompilationOptions compilationOptions = project.currentPackage().packageContext().compilationOptions();
+        if (!compilationOptions.incrementalBuild() || compilationOptions.observabilityIncluded()
+                || project.kind() != ProjectKind.BUILD_PROJECT || System.getProperty("BOOTSTRAP_LANG_LIB") != null) {
+            return false;
+        }
+
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
+        return Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS)) || testDocContextMap.isEmpty();
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+
     private void parseTestSources(BLangPackage pkgNode, PackageID pkgId, CompilerContext compilerContext) {
         BLangTestablePackage testablePkg = TreeBuilder.createTestablePackageNode();
         // TODO Not sure why we need to do this. It is there in the current implementation
@@ -218,7 +335,7 @@ class ModuleContext {
         //  So I kept this as is for now.
         testablePkg.pos = new BLangDiagnosticLocation(this.moduleName().toString(), 1, 1, 1, 1);
         pkgNode.addTestablePkg(testablePkg);
-        for (DocumentContext documentContext : testDocContextMap.values()) {
+        for (DocumentContext documentContext : parseDocuments(testDocContextMap.values())) {
             testablePkg.addCompilationUnit(documentContext.compilationUnit(compilerContext, pkgId));
         }
     }
@@ -300,14 +417,60 @@ class ModuleContext {
     }
 
     static void parseInternal(ModuleContext moduleContext) {
-        for (DocumentContext docContext : moduleContext.srcDocContextMap.values()) {
-            docContext.parse();
+        parseDocuments(moduleContext.srcDocContextMap.values());
+    }
+
+    /**
+     * Parses the given documents and returns them in the order of their names.
+     * <p>
+     * The syntax trees of the documents do not share any state, hence the documents are parsed in parallel.
+     * The BLang trees are created afterwards in the returned order, so that the compilation units, the generated
+     * anonymous names and the diagnostics of a module are the same in every compilation.
+     *
+     * @param documentContexts documents to be parsed
+     * @return the documents sorted by name
+     */
+    private static List<DocumentContext> parseDocuments(Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> sortedDocumentContexts = sortedDocumentContexts(documentContexts);
+        if (sortedDocumentContexts.size() > 1) {
+            sortedDocumentContexts.parallelStream().forEach(DocumentContext::parse);
+        } else {
+            sortedDocumentContexts.forEach(DocumentContext::parse);
         }
+        return sortedDocumentContexts;
+    }
+
+    private static List<DocumentContext> sortedDocumentContexts(Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> sortedDocumentContexts = new ArrayList<>(documentContexts);
+        sortedDocumentContexts.sort(Comparator.comparing(DocumentContext::name));
+        return sortedDocumentContexts;
     }
 
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
+    /**
+     * Loads the module symbol from the BIR cached by a previous build, if the module has not changed since then.
+     *
+     * @return true if the module was loaded from the compilation cache
+     */
+    static boolean loadFromCompilationCacheInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (!moduleContext.isCompilationCacheEnabled(compilerContext)) {
+            return false;
+        }
+
+        Optional<byte[]> cachedBir = moduleContext.compilationCache.getBir(moduleContext.moduleName(),
+                moduleContext.compilationCacheKey());
+        if (cachedBir.isEmpty()) {
+            return false;
+        }
+
+        // The platform libraries cached along with the BIR are reused as they are.
+        moduleContext.birBytes = cachedBir.get();
+        loadPackageSymbolInternal(moduleContext, compilerContext);
+        return true;
+    }
+
     static void compileInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
@@ -324,7 +487,7 @@ class ModuleContext {
         packageCache.put(moduleCompilationId, pkgNode);
 
         // Parse source files
-        for (DocumentContext documentContext : moduleContext.srcDocContextMap.values()) {
+        for (DocumentContext documentContext : parseDocuments(moduleContext.srcDocContextMap.values())) {
             pkgNode.addCompilationUnit(documentContext.compilationUnit(compilerContext, moduleCompilationId));
         }
 
@@ -351,6 +514,7 @@ class ModuleContext {
                                      CompilerBackend compilerBackend,
                                      CompilerContext compilerContext) {
         // Perform the rest of the compilation phases before generating platform-specific code
+        BLangDiagnosticLog.getInstance(compilerContext).setCurrentPackageId(moduleContext.bLangPackage.packageID);
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
         if (bootstrapLangLibName != null) {
@@ -369,6 +533,20 @@ class ModuleContext {
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
     }
 
+    /**
+     * Records the compilation cache key of this module, once the platform-specific code of the module is generated
+     * without errors.
+     *
+     * @param compilerContext compiler context
+     */
+    void cacheCompilationKey(CompilerContext compilerContext) {
+        if (moduleCompState != ModuleCompilationState.PLATFORM_LIBRARY_GENERATED
+                || !isCompilationCacheEnabled(compilerContext) || Diagnostics.hasErrors(diagnostics())) {
+            return;
+        }
+        compilationCache.cacheKey(moduleName(), compilationCacheKey());
+    }
+
     private static void cacheBIR(ModuleContext moduleContext) {
         // Skip caching BIR if there are diagnostics
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -0,0 +1,522 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles the executable jar of a package from the jar files required for its execution.
+ * <p>
+ * The input jars are opened and scanned in parallel, while their entries are written in the given order so that the
+ * first jar providing an entry wins. Entries are transferred in their compressed form.
+ * <p>
+ * When incremental assembly is enabled, an index of the inputs is written next to the executable. A later assembly
+ * with the same inputs and manifest reuses the previous executable, and one where only the tracked jars (the jars
+ * generated for the root package) have changed copies the rest of its entries from the previous executable. Inputs
+ * are compared by a digest of their central directory, which covers the name, CRC and size of every entry.
+ *
+ * @since 2.0.0
+ */
+public class ExecutableJarAssembler {
+    private static final String INDEX_FILE_SUFFIX = ".index";
+    private static final String SERVICES_DIR = "META-INF/services";
+    private static final String INDEX_MANIFEST = "manifest";
+    private static final String INDEX_JAR = "jar";
+    private static final String INDEX_TRACKED = "tracked";
+    private static final String INDEX_ENTRY = "entry";
+    private static final String INDEX_SERVICE = "service";
+    private static final HashSet<String> excludeExtensions = new HashSet<>(List.of("DSA", "SF"));
+
+    private final Path executableFilePath;
+    private final Path indexFilePath;
+    private final Manifest manifest;
+    private final List<Path> jarFilePaths;
+    private final Set<Path> trackedJarPaths;
+    private final boolean incremental;
+    private String assemblyTime;
+
+    public ExecutableJarAssembler(Path executableFilePath, Manifest manifest, Collection<Path> jarFilePaths,
+                                  Collection<Path> trackedJarPaths, boolean incremental) {
+        this.executableFilePath = executableFilePath;
+        this.indexFilePath = executableFilePath.resolveSibling(
+                "." + executableFilePath.getFileName().toString() + INDEX_FILE_SUFFIX);
+        this.manifest = manifest;
+        this.jarFilePaths = new ArrayList<>(jarFilePaths);
+        this.trackedJarPaths = new HashSet<>(trackedJarPaths);
+        this.incremental = incremental;
+    }
+
+    /**
+     * Writes the executable jar.
+     *
+     * @throws IOException If reading a jar file or writing the executable failed.
+     */
+    public void assemble() throws IOException {
+        long startTime = System.currentTimeMillis();
+        List<JarInput> inputs = readInputs();
+        long readTime = System.currentTimeMillis();
+
+        String mode;
+        try {
+            Index previousIndex = incremental ? Index.read(indexFilePath) : null;
+            Files.deleteIfExists(indexFilePath);
+            String manifestDigest = digestManifest();
+            if (previousIndex != null && !manifestDigest.equals(previousIndex.manifestDigest)) {
+                // The manifest is the first entry of the executable, so none of it can be reused
+                previousIndex = null;
+            }
+
+            Index index;
+            if (previousIndex != null && isUnchanged(previousIndex, inputs)) {
+                index = previousIndex;
+                mode = "reused";
+            } else {
+                index = previousIndex != null ? assembleIncrementally(previousIndex, inputs) : null;
+                mode = "incremental";
+                if (index == null) {
+                    index = assembleFully(inputs);
+                    mode = "full";
+                }
+            }
+
+            if (incremental) {
+                index.manifestDigest = manifestDigest;
+                index.write(indexFilePath);
+            }
+        } finally {
+            closeInputs(inputs);
+        }
+
+        long endTime = System.currentTimeMillis();
+        assemblyTime = "executable jar assembly (" + mode + "): " + inputs.size() + " jars, read " +
+                (readTime - startTime) + " ms, write " + (endTime - readTime) + " ms";
+    }
+
+    /**
+     * Returns the mode and the read and write times of the last assembly.
+     *
+     * @return a summary of the assembly time, or {@code null} if the executable has not been assembled
+     */
+    public String assemblyTime() {
+        return assemblyTime;
+    }
+
+    private List<JarInput> readInputs() throws IOException {
+        // Failures are kept in the inputs rather than thrown, so that every jar opened by the parallel reads is known
+        // and can be closed.
+        List<JarInput> inputs = jarFilePaths.parallelStream().map(JarInput::read).collect(Collectors.toList());
+        for (JarInput input : inputs) {
+            if (input.failure != null) {
+                IOException failure = input.failure;
+                try {
+                    closeInputs(inputs);
+                } catch (IOException e) {
+                    failure.addSuppressed(e);
+                }
+                throw failure;
+            }
+        }
+        return inputs;
+    }
+
+    private static void closeInputs(List<JarInput> inputs) throws IOException {
+        IOException failure = null;
+        for (JarInput input : inputs) {
+            if (input.zipFile == null) {
+                continue;
+            }
+            try {
+                input.zipFile.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private String digestManifest() throws IOException {
+        ByteArrayOutputStream manifestBytes = new ByteArrayOutputStream();
+        manifest.write(manifestBytes);
+        MessageDigest digest = newDigest();
+        digest.update(manifestBytes.toByteArray());
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private boolean isUnchanged(Index previousIndex, List<JarInput> inputs) {
+        if (!Files.exists(executableFilePath) || !previousIndex.hasSameJars(inputs)) {
+            return false;
+        }
+        for (JarInput input : inputs) {
+            if (!input.fingerprint.equals(previousIndex.fingerprints.get(input.path))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Index assembleFully(List<JarInput> inputs) throws IOException {
+        Index index = new Index();
+        // Used to prevent adding duplicated entries during the final jar creation.
+        HashSet<String> copiedEntries = new HashSet<>();
+
+        // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
+        // service loader related information should be merged together in the final executable jar creation.
+        Map<String, StringBuilder> serviceEntries = new LinkedHashMap<>();
+
+        try (ZipArchiveOutputStream outStream = newOutputStream(executableFilePath)) {
+            writeManifest(outStream);
+
+            // Copy all the jars
+            for (JarInput input : inputs) {
+                List<String> contributedEntries = index.addJar(input, trackedJarPaths.contains(input.path));
+                input.zipFile.copyRawEntries(outStream, entry -> {
+                    if (!input.copiedEntries.contains(entry.getName()) || !copiedEntries.add(entry.getName())) {
+                        return false;
+                    }
+                    if (contributedEntries != null) {
+                        contributedEntries.add(entry.getName());
+                    }
+                    return true;
+                });
+                for (Map.Entry<String, String> service : input.services.entrySet()) {
+                    serviceEntries.computeIfAbsent(service.getKey(), k -> new StringBuilder())
+                            .append(service.getValue());
+                }
+            }
+
+            // Copy merged spi services.
+            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+                JarArchiveEntry e = new JarArchiveEntry(entry.getKey());
+                outStream.putArchiveEntry(e);
+                outStream.write(entry.getValue().toString().getBytes(StandardCharsets.UTF_8));
+                outStream.closeArchiveEntry();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the executable from the previous one when only tracked jars have changed, and none of them affect the
+     * merged SPI entries, an entry provided by another jar, or an entry which another jar provides once it is dropped.
+     *
+     * @return the index of the new executable, or {@code null} if the executable has to be assembled from scratch
+     */
+    private Index assembleIncrementally(Index previousIndex, List<JarInput> inputs) throws IOException {
+        if (!Files.exists(executableFilePath) || !previousIndex.hasSameJars(inputs)) {
+            return null;
+        }
+
+        List<JarInput> changedInputs = new ArrayList<>();
+        Set<String> staleEntries = new HashSet<>();
+        for (JarInput input : inputs) {
+            if (input.fingerprint.equals(previousIndex.fingerprints.get(input.path))) {
+                continue;
+            }
+            List<String> previousEntries = previousIndex.contributedEntries.get(input.path);
+            if (previousEntries == null || !trackedJarPaths.contains(input.path) || !input.services.isEmpty() ||
+                    previousIndex.jarsWithServices.contains(input.path)) {
+                return null;
+            }
+            changedInputs.add(input);
+            staleEntries.addAll(previousEntries);
+        }
+
+        // An entry dropped by a changed jar is taken from the next jar providing it in a full assembly, and the
+        // previous executable does not have that copy of it
+        Set<String> droppedEntries = new HashSet<>(staleEntries);
+        for (JarInput input : changedInputs) {
+            droppedEntries.removeAll(input.copiedEntries);
+        }
+        if (!droppedEntries.isEmpty()) {
+            for (JarInput input : inputs) {
+                if (!changedInputs.contains(input) && !Collections.disjoint(input.copiedEntries, droppedEntries)) {
+                    return null;
+                }
+            }
+        }
+
+        Path tempFilePath = executableFilePath.resolveSibling(executableFilePath.getFileName().toString() + ".tmp");
+        try (ZipFile previousExecutable = new ZipFile(executableFilePath.toFile())) {
+            HashSet<String> copiedEntries = new HashSet<>();
+            Enumeration<ZipArchiveEntry> entries = previousExecutable.getEntries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (!entryName.equals(JarFile.MANIFEST_NAME) && !staleEntries.contains(entryName)) {
+                    copiedEntries.add(entryName);
+                }
+            }
+            for (JarInput input : changedInputs) {
+                if (!Collections.disjoint(input.copiedEntries, copiedEntries)) {
+                    return null;
+                }
+            }
+
+            try (ZipArchiveOutputStream outStream = newOutputStream(tempFilePath)) {
+                writeManifest(outStream);
+                previousExecutable.copyRawEntries(outStream, entry -> copiedEntries.contains(entry.getName()));
+
+                Index index = new Index();
+                for (JarInput input : inputs) {
+                    List<String> contributedEntries = index.addJar(input, trackedJarPaths.contains(input.path));
+                    if (!changedInputs.contains(input)) {
+                        if (contributedEntries != null) {
+                            contributedEntries.addAll(previousIndex.contributedEntries.get(input.path));
+                        }
+                        continue;
+                    }
+                    input.zipFile.copyRawEntries(outStream, entry -> {
+                        if (!input.copiedEntries.contains(entry.getName()) || !copiedEntries.add(entry.getName())) {
+                            return false;
+                        }
+                        contributedEntries.add(entry.getName());
+                        return true;
+                    });
+                }
+                outStream.close();
+                Files.move(tempFilePath, executableFilePath, StandardCopyOption.REPLACE_EXISTING);
+                return index;
+            }
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    private void writeManifest(ZipArchiveOutputStream outStream) throws IOException {
+        JarArchiveEntry e = new JarArchiveEntry(JarFile.MANIFEST_NAME);
+        outStream.putArchiveEntry(e);
+        manifest.write(new BufferedOutputStream(outStream));
+        outStream.closeArchiveEntry();
+    }
+
+    private static ZipArchiveOutputStream newOutputStream(Path filePath) throws IOException {
+        return new ZipArchiveOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)));
+    }
+
+    private static boolean isExcludedEntry(String entryName) {
+        return excludeExtensions.contains(entryName.substring(entryName.lastIndexOf(".") + 1));
+    }
+
+    /**
+     * An opened input jar, along with the names of the entries to be copied from it and its SPI entries. An input
+     * that could not be read only has the failure, and no zip file.
+     */
+    private static class JarInput {
+        private final Path path;
+        private String fingerprint;
+        private ZipFile zipFile;
+        private IOException failure;
+        private final Set<String> copiedEntries = new HashSet<>();
+        private final Map<String, String> services = new LinkedHashMap<>();
+
+        private JarInput(Path path) {
+            this.path = path;
+        }
+
+        private static JarInput read(Path jarFilePath) {
+            JarInput input = new JarInput(jarFilePath);
+            try {
+                input.zipFile = new ZipFile(jarFilePath.toFile());
+                input.readEntries();
+            } catch (IOException e) {
+                input.failure = e;
+                if (input.zipFile != null) {
+                    try {
+                        input.zipFile.close();
+                    } catch (IOException closeFailure) {
+                        e.addSuppressed(closeFailure);
+                    }
+                    input.zipFile = null;
+                }
+            }
+            return input;
+        }
+
+        private void readEntries() throws IOException {
+            MessageDigest digest = newDigest();
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                digest.update((entryName + "\t" + entry.getCrc() + "\t" + entry.getSize() + "\t" +
+                        entry.getCompressedSize() + "\n").getBytes(StandardCharsets.UTF_8));
+                if (entryName.equals(JarFile.MANIFEST_NAME)) {
+                    continue;
+                }
+
+                if (entryName.startsWith(SERVICES_DIR)) {
+                    services.put(entryName, readServiceEntry(zipFile, entry));
+                    continue;
+                }
+
+                if (!isExcludedEntry(entryName)) {
+                    copiedEntries.add(entryName);
+                }
+            }
+            fingerprint = toHex(digest.digest());
+        }
+
+        private static String readServiceEntry(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+            try (InputStream inStream = zipFile.getInputStream(entry)) {
+                String content = new String(inStream.readAllBytes(), StandardCharsets.UTF_8);
+                return content.isEmpty() || content.endsWith("\n") ? content : content + "\n";
+            }
+        }
+    }
+
+    /**
+     * The manifest and the input jars of an executable with their digests, and the entries contributed by the
+     * tracked jars.
+     */
+    private static class Index {
+        private String manifestDigest;
+        private final List<Path> jarPaths = new ArrayList<>();
+        private final Map<Path, String> fingerprints = new HashMap<>();
+        private final Map<Path, List<String>> contributedEntries = new HashMap<>();
+        private final Set<Path> jarsWithServices = new HashSet<>();
+
+        private List<String> addJar(JarInput input, boolean tracked) {
+            addJar(input.path, input.fingerprint);
+            if (!input.services.isEmpty()) {
+                jarsWithServices.add(input.path);
+            }
+            return tracked ? contributedEntries.computeIfAbsent(input.path, p -> new ArrayList<>()) : null;
+        }
+
+        private void addJar(Path jarPath, String fingerprint) {
+            jarPaths.add(jarPath);
+            fingerprints.put(jarPath, fingerprint);
+        }
+
+        private boolean hasSameJars(List<JarInput> inputs) {
+            if (jarPaths.size() != inputs.size()) {
+                return false;
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                if (!jarPaths.get(i).equals(inputs.get(i).path)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Index read(Path indexFilePath) throws IOException {
+            if (!Files.exists(indexFilePath)) {
+                return null;
+            }
+
+            Index index = new Index();
+            Path currentJar = null;
+            for (String line : Files.readAllLines(indexFilePath, StandardCharsets.UTF_8)) {
+                String[] parts = line.split("\t", 3);
+                if (parts[0].equals(INDEX_MANIFEST) && parts.length == 2 && index.jarPaths.isEmpty()) {
+                    index.manifestDigest = parts[1];
+                } else if (parts[0].equals(INDEX_JAR) && parts.length == 3) {
+                    currentJar = Paths.get(parts[2]);
+                    index.addJar(currentJar, parts[1]);
+                } else if (parts[0].equals(INDEX_TRACKED) && parts.length == 1 && currentJar != null) {
+                    index.contributedEntries.put(currentJar, new ArrayList<>());
+                } else if (parts[0].equals(INDEX_ENTRY) && parts.length == 2 &&
+                        index.contributedEntries.containsKey(currentJar)) {
+                    index.contributedEntries.get(currentJar).add(parts[1]);
+                } else if (parts[0].equals(INDEX_SERVICE) && parts.length == 1 && currentJar != null) {
+                    index.jarsWithServices.add(currentJar);
+                } else {
+                    // Not an index written by this version. Fall back to a full assembly.
+                    return null;
+                }
+            }
+            return index;
+        }
+
+        private void write(Path indexFilePath) throws IOException {
+            try (BufferedWriter writer = Files.newBufferedWriter(indexFilePath, StandardCharsets.UTF_8)) {
+                writer.write(INDEX_MANIFEST + "\t" + manifestDigest);
+                writer.newLine();
+                for (Path jarPath : jarPaths) {
+                    writer.write(INDEX_JAR + "\t" + fingerprints.get(jarPath) + "\t" + jarPath);
+                    writer.newLine();
+                    if (jarsWithServices.contains(jarPath)) {
+                        writer.write(INDEX_SERVICE);
+                        writer.newLine();
+                    }
+                    if (!contributedEntries.containsKey(jarPath)) {
+                        continue;
+                    }
+                    writer.write(INDEX_TRACKED);
+                    writer.newLine();
+                    for (String entryName : contributedEntries.get(jarPath)) {
+                        writer.write(INDEX_ENTRY + "\t" + entryName);
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -175,11 +175,23 @@ public class Target {
      *
      */
     public void clean() throws IOException {
-        // Remove from cache
-        FileUtils.deleteDirectory(this.cache.toFile());
+        clean(false);
+    }
+
+    /**
+     * Clean any files that created from the build.
+     *
+     * @param keepBuildCaches whether to keep the compilation cache and the executables, which are reused by an
+     *                        incremental build
+     */
+    public void clean(boolean keepBuildCaches) throws IOException {
+        if (!keepBuildCaches) {
+            // Remove from cache
+            FileUtils.deleteDirectory(this.cache.toFile());
+            FileUtils.deleteDirectory(this.binPath.toFile());
+        }
         // Remove any generated balo
         FileUtils.deleteDirectory(this.baloCachePath.toFile());
-        FileUtils.deleteDirectory(this.binPath.toFile());
         FileUtils.deleteDirectory(this.docPath.toFile());
         FileUtils.deleteDirectory(this.reportPath.toFile());
     }
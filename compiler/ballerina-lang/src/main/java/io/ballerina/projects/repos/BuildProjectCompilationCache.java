@@ -19,8 +19,17 @@ package io.ballerina.projects.repos;
 
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default {@code CompilationCache} linked with the {@code BuildProject}.
@@ -29,8 +38,12 @@ import java.nio.file.Path;
  */
 public class BuildProjectCompilationCache extends FileSystemCache {
     private static final String TARGET_DIR_NAME = "target";
+    private static final String CACHE_KEY_FILE_EXT = ".key";
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+    // Modules whose BIR could not be written in this compilation, which must not get a cache key
+    private final Set<ModuleName> uncachedModules = ConcurrentHashMap.newKeySet();
+
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath);
     }
@@ -42,8 +55,71 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory. It is only reused through the cache key.
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // The BIR in the target directory is regenerated on every compilation of the module. The cache key is
+        // removed first, and written back only once the platform libraries of the module are also regenerated.
+        Path birFilePath = getBirFilePath(moduleName);
+        try {
+            Files.deleteIfExists(getCacheKeyFilePath(moduleName));
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
+            uncachedModules.remove(moduleName);
+        } catch (IOException e) {
+            // The cache entry is dropped and the module is compiled again in the next build
+            uncachedModules.add(moduleName);
+            deleteQuietly(getCacheKeyFilePath(moduleName));
+            deleteQuietly(birFilePath);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> getBir(ModuleName moduleName, String cacheKey) {
+        Path cacheKeyFilePath = getCacheKeyFilePath(moduleName);
+        Path birFilePath = getBirFilePath(moduleName);
+        try {
+            if (!Files.exists(cacheKeyFilePath) || !Files.exists(birFilePath) ||
+                    !cacheKey.equals(Files.readString(cacheKeyFilePath, StandardCharsets.UTF_8))) {
+                return Optional.empty();
+            }
+            return Optional.of(Files.readAllBytes(birFilePath));
+        } catch (IOException e) {
+            // An unreadable cache entry is treated as a cache miss
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheKey(ModuleName moduleName, String cacheKey) {
+        if (uncachedModules.contains(moduleName)) {
+            return;
+        }
+
+        Path cacheKeyFilePath = getCacheKeyFilePath(moduleName);
+        try {
+            Files.writeString(cacheKeyFilePath, cacheKey, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // A partially written cache key is removed, so that the module is compiled again in the next build
+            deleteQuietly(cacheKeyFilePath);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Best effort, since the compilation does not depend on the cache
+        }
+    }
+
+    private Path getBirFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    private Path getCacheKeyFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + CACHE_KEY_FILE_EXT);
+    }
 }
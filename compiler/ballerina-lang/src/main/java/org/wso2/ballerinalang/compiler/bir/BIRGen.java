@@ -72,6 +72,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.TaintRecord;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -2556,9 +2557,11 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_STORE;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldStore =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, varRefRegIndex, keyRegIndex,
-                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation));
+                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation);
+            fieldStore.recordFieldName = getRecordFieldName(astIndexBasedAccessExpr, insKind);
+            setScopeAndEmit(fieldStore);
         } else {
             BIRVariableDcl tempVarDcl = new BIRVariableDcl(astIndexBasedAccessExpr.type, this.env.nextLocalVarId(names),
                     VarScope.FUNCTION, VarKind.TEMP);
@@ -2587,15 +2590,28 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_LOAD;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldLoad =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, tempVarRef, keyRegIndex,
                             varRefRegIndex, except,
-                            astIndexBasedAccessExpr.lhsVar && !astIndexBasedAccessExpr.leafNode));
+                            astIndexBasedAccessExpr.lhsVar && !astIndexBasedAccessExpr.leafNode);
+            fieldLoad.recordFieldName = getRecordFieldName(astIndexBasedAccessExpr, insKind);
+            setScopeAndEmit(fieldLoad);
             this.env.targetOperand = tempVarRef;
         }
         this.varAssignment = variableStore;
     }
 
+    private String getRecordFieldName(BLangIndexBasedAccess astIndexBasedAccessExpr, InstructionKind insKind) {
+        if ((insKind != InstructionKind.MAP_LOAD && insKind != InstructionKind.MAP_STORE)
+                || !(astIndexBasedAccessExpr instanceof BLangStructFieldAccessExpr)
+                || astIndexBasedAccessExpr.expr.type.tag != TypeTags.RECORD
+                || astIndexBasedAccessExpr.symbol == null) {
+            return null;
+        }
+        String fieldName = astIndexBasedAccessExpr.symbol.name.value;
+        return ((BRecordType) astIndexBasedAccessExpr.expr.type).fields.containsKey(fieldName) ? fieldName : null;
+    }
+
     private BTypeSymbol getObjectTypeSymbol(BType type) {
         if (type.tag == TypeTags.UNION) {
             return ((BUnionType) type).getMemberTypes().stream()
@@ -113,6 +113,14 @@ public class CodeGenerator {
         return compilerOptions.isSet(optionName) && Boolean.parseBoolean(compilerOptions.get(optionName));
     }
 
+    /**
+     * Sets up the state shared by the code generation of the modules of a package. Called before any of the modules
+     * is generated, as the modules may be generated in parallel.
+     */
+    public void initCodeGen() {
+        JvmCastGen.symbolTable = symbolTable;
+    }
+
     public CompiledJarFile generate(ModuleId moduleId, CompilerBackend compilerBackend, BLangPackage bLangPackage) {
         if (dumbBIR) {
             birEmitter.emit(bLangPackage.symbol.bir);
@@ -176,8 +184,7 @@ public class CodeGenerator {
         JvmObservabilityGen jvmObservabilityGen = new JvmObservabilityGen(packageCache, symbolTable);
         jvmObservabilityGen.instrumentPackage(packageSymbol.bir);
 
-        dlog.setCurrentPackageId(packageSymbol.pkgID);
-        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog);
+        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, packageSymbol.pkgID);
 
         populateExternalMap(jvmPackageGen);
 
@@ -106,7 +106,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodG
  */
 public class JvmCastGen {
 
-    //the symbol table is currently set from package gen class
+    //the symbol table is set by the code generator before the modules of a package are generated
     static SymbolTable symbolTable;
 
     static void generatePlatformCheckCast(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, BType sourceType,
@@ -1336,13 +1336,13 @@ public class JvmCastGen {
 
     public static void addBoxInsn(MethodVisitor mv, BType bType) {
         if (bType != null) {
-            generateCast(mv, bType, JvmInstructionGen.anyType);
+            generateCast(mv, bType, symbolTable.anyType);
         }
     }
 
     public static void addUnboxInsn(MethodVisitor mv, BType bType) {
         if (bType != null) {
-            generateCast(mv, JvmInstructionGen.anyType, bType);
+            generateCast(mv, symbolTable.anyType, bType);
         }
     }
     // ------------------------------------------------------------------
@@ -39,9 +39,13 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -65,6 +69,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -89,6 +94,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -115,6 +121,8 @@ import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.NEWARRAY;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.T_INT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.generateCast;
@@ -183,8 +191,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeVal
  */
 public class JvmInstructionGen {
 
-    //this anytype is currently set from package gen class
-    static BType anyType;
     private final MethodVisitor mv;
     private final BIRVarToJVMIndexMap indexMap;
     private final String currentPackageName;
@@ -1288,6 +1294,39 @@ public class JvmInstructionGen {
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
+        Label mapStoreEnd = null;
+        BField recordField = mapStoreIns.onInitialization ? null : getDirectlyAccessibleRecordField(mapStoreIns);
+        if (recordField != null && !Symbols.isFlagOn(recordField.symbol.flags, Flags.READONLY)) {
+            // Write straight to the field of the generated record class when the value is an unfrozen instance of
+            // it, and fall back to `handleMapStore` otherwise.
+            String className = getRecordValueClassName((BRecordType) varRefType);
+            String fieldName = recordField.name.value;
+            Label slowPathLabel = new Label();
+            mapStoreEnd = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, slowPathLabel);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitInsn(DUP);
+            this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "isFrozen", "()Z", true);
+            this.mv.visitJumpInsn(IFNE, slowPathLabel);
+            if (JvmValueGen.isOptionalRecordField(recordField)) {
+                this.mv.visitInsn(DUP);
+                this.mv.visitInsn(ICONST_1);
+                this.mv.visitFieldInsn(PUTFIELD, className, JvmValueGen.getFieldIsPresentFlagName(fieldName),
+                                       getTypeDesc(symbolTable.booleanType));
+            }
+            BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+            this.loadVar(mapStoreIns.rhsOp.variableDcl);
+            JvmCastGen.addBoxInsn(this.mv, valueType);
+            JvmCastGen.addUnboxInsn(this.mv, recordField.type);
+            this.mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(recordField.type));
+            this.mv.visitJumpInsn(GOTO, mapStoreEnd);
+            this.mv.visitLabel(slowPathLabel);
+            this.mv.visitInsn(POP);
+            this.loadVar(mapStoreIns.lhsOp.variableDcl);
+        }
+
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
@@ -1308,6 +1347,10 @@ public class JvmInstructionGen {
                                              MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+
+        if (mapStoreEnd != null) {
+            this.mv.visitLabel(mapStoreEnd);
+        }
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
@@ -1316,6 +1359,36 @@ public class JvmInstructionGen {
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         JvmCastGen.addUnboxInsn(this.mv, varRefType);
 
+        Label mapLoadEnd = null;
+        BField recordField = mapLoadIns.fillingRead ? null : getDirectlyAccessibleRecordField(mapLoadIns);
+        if (recordField != null) {
+            // Read straight from the field of the generated record class when the value is an instance of it, and
+            // fall back to `get` otherwise.
+            String className = getRecordValueClassName((BRecordType) varRefType);
+            String fieldName = recordField.name.value;
+            Label slowPathLabel = new Label();
+            mapLoadEnd = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, slowPathLabel);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            if (JvmValueGen.isOptionalRecordField(recordField)) {
+                Label ifPresentLabel = new Label();
+                this.mv.visitInsn(DUP);
+                this.mv.visitFieldInsn(GETFIELD, className, JvmValueGen.getFieldIsPresentFlagName(fieldName),
+                                       getTypeDesc(symbolTable.booleanType));
+                this.mv.visitJumpInsn(IFNE, ifPresentLabel);
+                this.mv.visitInsn(POP);
+                this.mv.visitInsn(ACONST_NULL);
+                this.mv.visitJumpInsn(GOTO, mapLoadEnd);
+                this.mv.visitLabel(ifPresentLabel);
+            }
+            this.mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(recordField.type));
+            JvmCastGen.addBoxInsn(this.mv, recordField.type);
+            this.mv.visitJumpInsn(GOTO, mapLoadEnd);
+            this.mv.visitLabel(slowPathLabel);
+        }
+
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
 
@@ -1341,12 +1414,33 @@ public class JvmInstructionGen {
             }
         }
 
+        if (mapLoadEnd != null) {
+            this.mv.visitLabel(mapLoadEnd);
+        }
+
         // store in the target reg
         BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         JvmCastGen.addUnboxInsn(this.mv, targetType);
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    private BField getDirectlyAccessibleRecordField(BIRNonTerminator.FieldAccess fieldAccessIns) {
+        // The fields of a record value class are package-private, so only records whose type definition is in this
+        // module qualify.
+        BIROperand recordOp = fieldAccessIns.kind == InstructionKind.MAP_STORE ? fieldAccessIns.lhsOp :
+                fieldAccessIns.rhsOp;
+        BType varRefType = recordOp.variableDcl.type;
+        if (fieldAccessIns.recordFieldName == null || varRefType.tag != TypeTags.RECORD ||
+                getRecordValueClassName((BRecordType) varRefType) == null) {
+            return null;
+        }
+        return ((BRecordType) varRefType).fields.get(fieldAccessIns.recordFieldName);
+    }
+
+    private String getRecordValueClassName(BRecordType recordType) {
+        return this.jvmPackageGen.lookupRecordValueClassName(recordType);
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
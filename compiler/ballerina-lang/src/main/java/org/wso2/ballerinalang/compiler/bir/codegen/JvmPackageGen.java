@@ -68,6 +68,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -125,8 +126,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static ResolvedTypeBuilder typeBuilder;
-
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final MethodGen methodGen;
@@ -138,25 +137,26 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Map<String, PackageID> dependentModules;
+    private final Map<BType, String> recordValueClassMap;
     private final BLangDiagnosticLog dlog;
+    private final PackageID entryModuleId;
 
-    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
+    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog,
+                  PackageID entryModuleId) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashMap<>();
+        recordValueClassMap = new IdentityHashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
+        this.entryModuleId = entryModuleId;
         methodGen = new MethodGen(this);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
         lambdaGen = new LambdaGen(this);
         frameClassGen = new FrameClassGen();
-        typeBuilder = new ResolvedTypeBuilder();
-
-        JvmCastGen.symbolTable = symbolTable;
-        JvmInstructionGen.anyType = symbolTable.anyType;
     }
 
     private static String getBvmAlias(String orgName, String moduleName) {
@@ -338,7 +338,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(retType);
+            retType = new ResolvedTypeBuilder().build(retType);
         }
 
         String jvmMethodDescription;
@@ -392,7 +392,8 @@ public class JvmPackageGen {
 
     CompiledJarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
 
-
+        // Only the errors of this module are counted, as other modules may be generated at the same time
+        int initialErrorCount = dlog.errorCount(entryModuleId);
         Set<PackageID> moduleImports = new LinkedHashSet<>();
 
         addBuiltinImports(module, moduleImports);
@@ -401,7 +402,7 @@ public class JvmPackageGen {
             BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
                     importModule.name.value));
             generateDependencyList(pkgSymbol, interopValidator);
-            if (dlog.errorCount() > 0) {
+            if (dlog.errorCount(entryModuleId) > initialErrorCount) {
                 return new CompiledJarFile(Collections.emptyMap());
             }
         }
@@ -411,7 +412,7 @@ public class JvmPackageGen {
                         MODULE_INIT_CLASS_NAME);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, moduleInitClass,
                                                                           interopValidator, isEntry);
-        if (!isEntry || dlog.errorCount() > 0) {
+        if (!isEntry || dlog.errorCount(entryModuleId) > initialErrorCount) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
@@ -435,6 +436,9 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // link the record types of this module to their value classes
+        linkRecordValueClasses(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, lambdaGen);
         valueGen.generateValueClasses(jarEntries);
@@ -625,12 +629,20 @@ public class JvmPackageGen {
                                                   className, lookupKey);
                     birFunctionMap.put(pkgName + lookupKey, birFuncWrapperOrError);
                 } catch (JInteropException e) {
-                    dlog.error(func.pos, e.getCode(), e.getMessage());
+                    dlog.error(entryModuleId, func.pos, e.getCode(), e.getMessage());
                 }
             }
         }
     }
 
+    private void linkRecordValueClasses(BIRPackage module) {
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.type.tag == TypeTags.RECORD) {
+                recordValueClassMap.putIfAbsent(typeDef.type, getTypeValueClassName(module, typeDef.name.value));
+            }
+        }
+    }
+
     private void linkModuleStopFunction(String pkgName, String initClass, String orgName, String moduleName,
                                         String version) {
         BInvokableType funcType = new BInvokableType(Collections.emptyList(), null, new BNilType(), null);
@@ -666,7 +678,11 @@ public class JvmPackageGen {
         String functionName = initFunc.name.value;
         JavaClass klass = new JavaClass(initFunc.pos.lineRange().filePath());
         klass.functions.add(0, initFunc);
-        initMethodGen.addInitAndTypeInitInstructions(module, initFunc);
+        // The init function body is generated only for the entry module. Dependency modules may be linked by
+        // several modules at the same time, hence their BIR should not be modified here.
+        if (isEntry) {
+            initMethodGen.addInitAndTypeInitInstructions(module, initFunc);
+        }
         jvmClassMap.put(initClass, klass);
         birFunctionMap.put(pkgName + functionName, getFunctionWrapper(initFunc, orgName, moduleName,
                 version, initClass));
@@ -724,7 +740,7 @@ public class JvmPackageGen {
                                               birModuleClassName, birFuncName);
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
             } catch (JInteropException e) {
-                dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                dlog.error(entryModuleId, birFunc.pos, e.getCode(), e.getMessage());
             }
         }
     }
@@ -761,11 +777,11 @@ public class JvmPackageGen {
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
-            dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
+            dlog.error(entryModuleId, func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(func.name.value));
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
+            dlog.error(entryModuleId, node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(e.getClassName()));
             result = new byte[0];
         } catch (Exception e) {
@@ -781,6 +797,7 @@ public class JvmPackageGen {
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        recordValueClassMap.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -813,6 +830,16 @@ public class JvmPackageGen {
         }
     }
 
+    /**
+     * Returns the name of the value class generated for a record type defined in the module being generated.
+     *
+     * @param recordType record type
+     * @return name of the value class, or null if the record type is not defined in the module
+     */
+    String lookupRecordValueClassName(BType recordType) {
+        return recordValueClassMap.get(recordType);
+    }
+
     public String lookupGlobalVarClassName(String pkgName, String varName) {
         String key = pkgName + varName;
         if (!globalVarClassMap.containsKey(key)) {
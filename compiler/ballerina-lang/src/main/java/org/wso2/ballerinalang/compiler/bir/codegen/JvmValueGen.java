@@ -104,7 +104,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.COLLECTIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_STRING_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
@@ -813,20 +812,20 @@ class JvmValueGen {
             FieldVisitor fv = cw.visitField(0, fieldName, getTypeDesc(field.type), null, null);
             fv.visitEnd();
 
-            if (this.isOptionalRecordField(field)) {
-                fv = cw.visitField(0, this.getFieldIsPresentFlagName(fieldName), getTypeDesc(booleanType),
+            if (isOptionalRecordField(field)) {
+                fv = cw.visitField(0, getFieldIsPresentFlagName(fieldName), getTypeDesc(booleanType),
                         null, null);
                 fv.visitEnd();
             }
         }
     }
 
-    private String getFieldIsPresentFlagName(String fieldName) {
+    static String getFieldIsPresentFlagName(String fieldName) {
 
         return String.format("%s$isPresent", fieldName);
     }
 
-    private boolean isOptionalRecordField(BField field) {
+    static boolean isOptionalRecordField(BField field) {
 
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
@@ -865,9 +864,9 @@ class JvmValueGen {
             // if the field is an optional-field, first check the 'isPresent' flag of that field.
             Label ifPresentLabel = new Label();
             String fieldName = optionalField.name.value;
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0);
-                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
                         getTypeDesc(booleanType));
                 mv.visitJumpInsn(IFNE, ifPresentLabel);
                 mv.visitInsn(ACONST_NULL);
@@ -933,10 +932,10 @@ class JvmValueGen {
             mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(optionalField.type));
 
             // if the field is an optional-field, then also set the isPresent flag of that field to true.
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0);
                 mv.visitInsn(ICONST_1);
-                mv.visitFieldInsn(PUTFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
                         getTypeDesc(booleanType));
             }
 
@@ -990,10 +989,10 @@ class JvmValueGen {
 
             // If its an optional field, generate if-condition to check the presense of the field.
             String fieldName = optionalField.name.value;
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0);
                 mv.visitFieldInsn(GETFIELD, className,
-                        this.getFieldIsPresentFlagName(decodeIdentifier(fieldName)),
+                        getFieldIsPresentFlagName(decodeIdentifier(fieldName)),
                         getTypeDesc(booleanType));
                 mv.visitJumpInsn(IFEQ, ifNotPresent);
             }
@@ -1023,7 +1022,7 @@ class JvmValueGen {
         // Add all from super.enrtySet() to the current entry set.
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "entrySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1064,10 +1063,10 @@ class JvmValueGen {
             mv.visitLabel(targetLabel);
 
             String fieldName = optionalField.name.value;
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 // if the field is optional, then return the value is the 'isPresent' flag.
                 mv.visitVarInsn(ALOAD, 0);
-                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
                         getTypeDesc(booleanType));
             } else {
                 // else always return true.
@@ -1106,9 +1105,9 @@ class JvmValueGen {
 
             // If its an optional field, generate if-condition to check the presense of the field.
             String fieldName = optionalField.name.value;
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0); // this
-                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
                                   getTypeDesc(booleanType));
                 mv.visitJumpInsn(IFEQ, ifNotPresent);
             }
@@ -1147,9 +1146,9 @@ class JvmValueGen {
         int requiredFieldsCount = 0;
         for (BField optionalField : fields.values()) {
             String fieldName = optionalField.name.value;
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0);
-                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
                                   getTypeDesc(booleanType));
                 Label l3 = new Label();
                 mv.visitJumpInsn(IFEQ, l3);
@@ -1214,11 +1213,11 @@ class JvmValueGen {
             mv.visitLabel(targetLabel);
 
             //Setting isPresent as zero
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 String fieldName = optionalField.name.value;
                 mv.visitVarInsn(ALOAD, 0);
                 mv.visitInsn(ICONST_0);
-                mv.visitFieldInsn(PUTFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
                         getTypeDesc(booleanType));
 
                 // load the existing value to return
@@ -1284,9 +1283,9 @@ class JvmValueGen {
 
             // If its an optional field, generate if-condition to check the presense of the field.
             String fieldName = decodeIdentifier(optionalField.name.value);
-            if (this.isOptionalRecordField(optionalField)) {
+            if (isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0); // this
-                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
                                   getTypeDesc(booleanType));
                 mv.visitJumpInsn(IFEQ, ifNotPresent);
             }
@@ -1302,7 +1301,7 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "keySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
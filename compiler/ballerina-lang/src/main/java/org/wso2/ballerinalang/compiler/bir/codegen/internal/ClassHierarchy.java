@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Model of the class hierarchy of the classes visible to a class loader, built from the headers of their class
+ * files. Answers the super type queries made while computing stack map frames, without loading and linking
+ * the classes.
+ *
+ * @since 2.0.0
+ */
+public class ClassHierarchy {
+
+    private static final String OBJECT_CLASS = "java/lang/Object";
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final ClassInfo CLASS_NOT_FOUND = new ClassInfo(null, new String[0], false);
+
+    private final ClassLoader classLoader;
+    private final Map<String, ClassInfo> classInfoMap = new ConcurrentHashMap<>();
+
+    public ClassHierarchy(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the common super class of the two given types. If any of the classes are not found, {@link Object}
+     * is returned as the super type.
+     *
+     * @param type1 internal name of the first type
+     * @param type2 internal name of the second type
+     * @return internal name of the common super class
+     */
+    public String getCommonSuperClass(String type1, String type2) {
+        ClassInfo classInfo1 = getClassInfo(type1);
+        ClassInfo classInfo2 = getClassInfo(type2);
+        if (classInfo1 == CLASS_NOT_FOUND || classInfo2 == CLASS_NOT_FOUND) {
+            return OBJECT_CLASS;
+        }
+
+        if (isAssignableFrom(type1, type2)) {
+            return type1;
+        } else if (isAssignableFrom(type2, type1)) {
+            return type2;
+        } else if (classInfo1.isInterface || classInfo2.isInterface) {
+            return OBJECT_CLASS;
+        }
+
+        String superClass = classInfo1.superName;
+        while (superClass != null && !isAssignableFrom(superClass, type2)) {
+            superClass = getClassInfo(superClass).superName;
+        }
+        return superClass == null ? OBJECT_CLASS : superClass;
+    }
+
+    private boolean isAssignableFrom(String type, String subType) {
+        if (type.equals(subType)) {
+            return true;
+        }
+
+        ClassInfo classInfo = getClassInfo(subType);
+        if (classInfo.superName != null && isAssignableFrom(type, classInfo.superName)) {
+            return true;
+        }
+        for (String interfaceName : classInfo.interfaces) {
+            if (isAssignableFrom(type, interfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ClassInfo getClassInfo(String type) {
+        return classInfoMap.computeIfAbsent(type, this::readClassInfo);
+    }
+
+    private ClassInfo readClassInfo(String type) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(type + CLASS_FILE_EXTENSION)) {
+            if (inputStream == null) {
+                return CLASS_NOT_FOUND;
+            }
+
+            // The whole class file is read, but only its header is parsed
+            ClassReader classReader = new ClassReader(inputStream);
+            return new ClassInfo(classReader.getSuperName(), classReader.getInterfaces(),
+                    (classReader.getAccess() & Opcodes.ACC_INTERFACE) != 0);
+        } catch (IOException | RuntimeException e) {
+            return CLASS_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Super types of a class, as declared in its class file.
+     */
+    private static class ClassInfo {
+
+        final String superName;
+        final String[] interfaces;
+        final boolean isInterface;
+
+        ClassInfo(String superName, String[] interfaces, boolean isInterface) {
+            this.superName = superName;
+            this.interfaces = interfaces;
+            this.isInterface = isInterface;
+        }
+    }
+}
@@ -314,6 +314,9 @@ public abstract class BIRNonTerminator extends BIRAbstractInstruction implements
         public boolean optionalFieldAccess = false;
         public boolean fillingRead = false;
         public boolean onInitialization = false;
+        // Name of the accessed field when this is a load or store of a declared field of a record. Only used by the
+        // code generator to access the field directly, and not written to the BIR binary.
+        public String recordFieldName;
 
         public FieldAccess(Location pos, InstructionKind kind,
                            BIROperand lhsOp, BIROperand keyOp, BIROperand rhsOp) {
@@ -21,6 +21,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -168,6 +169,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.FieldKind;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -206,6 +208,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_FILTER_TABLE_BY_FIELD_FUNCTION = new Name("filterTableByField");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -319,8 +322,12 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = initFromClause.collection;
+        if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            initCollection = getFilteredTableCollection(initFromClause, (BLangWhereClause) clauses.get(1));
+        }
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initCollection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -375,6 +382,66 @@ public class QueryDesugar extends BLangNodeVisitor {
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
+    /**
+     * When a query over a table starts with `where v.field == literal`, wrap the collection in
+     * filterTableByField(collection, "field", literal) so that the rows are looked up through a secondary index of
+     * the table instead of being scanned. The where clause is still desugared as usual, so the result is the same
+     * when the runtime cannot index the field and falls back to the table itself.
+     *
+     * @param fromClause  initial from clause.
+     * @param whereClause where clause which immediately follows the from clause.
+     * @return collection to create the pipeline with.
+     */
+    private BLangExpression getFilteredTableCollection(BLangFromClause fromClause, BLangWhereClause whereClause) {
+        BLangExpression collection = fromClause.collection;
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (collection.type.tag != TypeTags.TABLE || variable.getKind() != NodeKind.VARIABLE
+                || whereClause.expression.getKind() != NodeKind.BINARY_EXPR) {
+            return collection;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) whereClause.expression;
+        if (binaryExpr.opKind != OperatorKind.EQUAL) {
+            return collection;
+        }
+
+        BLangExpression fieldExpr = binaryExpr.lhsExpr;
+        BLangExpression valueExpr = binaryExpr.rhsExpr;
+        if (fieldExpr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            fieldExpr = binaryExpr.rhsExpr;
+            valueExpr = binaryExpr.lhsExpr;
+        }
+        if (fieldExpr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR || valueExpr.getKind() != NodeKind.LITERAL
+                && valueExpr.getKind() != NodeKind.NUMERIC_LITERAL) {
+            return collection;
+        }
+
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) fieldExpr;
+        BLangLiteral literal = (BLangLiteral) valueExpr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.fieldKind != FieldKind.SINGLE
+                || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != ((BLangSimpleVariable) variable).symbol
+                || !isIndexableFieldType(fieldAccess.type) || literal.type.tag != fieldAccess.type.tag) {
+            return collection;
+        }
+
+        Location pos = whereClause.pos;
+        BLangLiteral fieldName = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value);
+        BLangLiteral value = ASTBuilderUtil.createLiteral(pos, literal.type, literal.value);
+        return createQueryLibInvocation(QUERY_FILTER_TABLE_BY_FIELD_FUNCTION,
+                Lists.of(collection, fieldName, value), pos);
+    }
+
+    private boolean isIndexableFieldType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
      * _StreamPipeline pipeline = createPipeline(collection);
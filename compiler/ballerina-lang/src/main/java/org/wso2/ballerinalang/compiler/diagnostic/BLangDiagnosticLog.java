@@ -29,7 +29,9 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
@@ -46,6 +48,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private static final ResourceBundle MESSAGES = ResourceBundle.getBundle("compiler", Locale.getDefault());
 
     private int errorCount = 0;
+    private final Map<PackageID, Integer> packageErrorCounts = new HashMap<>();
     private PackageCache packageCache;
     private PackageID currentPackageId;
     private boolean isMute = false;
@@ -80,6 +83,20 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic(null, code, location, msg, DiagnosticSeverity.ERROR);
     }
 
+    /**
+     * Log an error against the given package instead of the current package. Used by the phases which may run
+     * for several packages at the same time.
+     *
+     * @param packageID Package ID of the package the error is associated with
+     * @param location Location of the error in the source code.
+     * @param code Error code
+     * @param args Parameters associated with the error
+     */
+    public void error(PackageID packageID, Location location, DiagnosticCode code, Object... args) {
+        String msg = formatMessage(ERROR_PREFIX, code, args);
+        reportDiagnostic(packageID, code, location, msg, DiagnosticSeverity.ERROR);
+    }
+
     /**
      * Log a warning.
      *
@@ -109,23 +126,34 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      *
      * @return Number of errors logged.
      */
-    public int errorCount() {
+    public synchronized int errorCount() {
         return this.errorCount;
     }
 
+    /**
+     * Get the number of errors logged against the given package through the methods taking a package ID. Unlike
+     * the total error count, it is not affected by errors logged for other packages at the same time.
+     *
+     * @param packageID Package ID
+     * @return Number of errors logged against the package.
+     */
+    public synchronized int errorCount(PackageID packageID) {
+        return this.packageErrorCounts.getOrDefault(packageID, 0);
+    }
+
     /**
      * Set the error count.
      * 
      * @param errorCount Error count
      */
-    public void setErrorCount(int errorCount) {
+    public synchronized void setErrorCount(int errorCount) {
         this.errorCount = errorCount;
     }
 
     /**
      * Reset error count.
      */
-    public void resetErrorCount() {
+    public synchronized void resetErrorCount() {
         this.errorCount = 0;
     }
 
@@ -161,9 +189,10 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
+            this.packageErrorCounts.merge(pkgId, 1, Integer::sum);
         }
 
         storeDiagnosticInModule(pkgId, diagnostic);
@@ -176,10 +205,13 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return MessageFormat.format(msgKey, args);
     }
 
-    private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
-                                  String msg, DiagnosticSeverity severity) {
+    private synchronized void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode,
+                                               Location location, String msg, DiagnosticSeverity severity) {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
+            if (packageID != null) {
+                this.packageErrorCounts.merge(packageID, 1, Integer::sum);
+            }
         }
 
         if (this.isMute) {
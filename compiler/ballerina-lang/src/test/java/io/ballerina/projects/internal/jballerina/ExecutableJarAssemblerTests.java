@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal.jballerina;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Contain cases to validate the reuse and rebuild decisions of {@code ExecutableJarAssembler}.
+ *
+ * @since 2.0.0
+ */
+public class ExecutableJarAssemblerTests {
+
+    private Path tempDir;
+    private Path executable;
+    private Path moduleJar;
+    private Path dependencyJar;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("executable-jar-assembler");
+        executable = tempDir.resolve("app.jar");
+        moduleJar = tempDir.resolve("module.jar");
+        dependencyJar = tempDir.resolve("dependency.jar");
+        writeJar(moduleJar, "app/Main.class", "main-v1");
+        writeJar(dependencyJar, "lib/Util.class", "util");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testUnchangedInputsAreReused() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(assemble(manifest("app.Main")), "reused");
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v1");
+        Assert.assertEquals(readEntry(executable, "lib/Util.class"), "util");
+    }
+
+    @Test
+    public void testChangedJarWithSameSizeAndTimestampIsRebuilt() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+
+        FileTime lastModifiedTime = Files.getLastModifiedTime(moduleJar);
+        long size = Files.size(moduleJar);
+        writeJar(moduleJar, "app/Main.class", "main-v2");
+        Files.setLastModifiedTime(moduleJar, lastModifiedTime);
+        Assert.assertEquals(Files.size(moduleJar), size);
+
+        Assert.assertEquals(assemble(manifest("app.Main")), "incremental");
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v2");
+        Assert.assertEquals(readEntry(executable, "lib/Util.class"), "util");
+    }
+
+    @Test
+    public void testChangedManifestIsRebuilt() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(assemble(manifest("app.OtherMain")), "full");
+        try (JarFile jarFile = new JarFile(executable.toFile())) {
+            Assert.assertEquals(jarFile.getManifest().getMainAttributes().getValue(Attributes.Name.MAIN_CLASS),
+                                "app.OtherMain");
+        }
+    }
+
+    @Test
+    public void testCorruptedIndexFallsBackToFullAssembly() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Path indexFile = tempDir.resolve(".app.jar.index");
+        Assert.assertTrue(Files.exists(indexFile));
+        Files.write(indexFile, "not an index".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v1");
+    }
+
+    @Test
+    public void testCorruptedInputJarFailsAssembly() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Files.write(dependencyJar, "not a jar".getBytes(StandardCharsets.UTF_8));
+
+        Assert.expectThrows(IOException.class, () -> assemble(manifest("app.Main")));
+        // The previous executable is left as it is
+        Assert.assertEquals(readEntry(executable, "lib/Util.class"), "util");
+
+        // A change of a jar which is not tracked requires a full assembly
+        writeJar(dependencyJar, "lib/Util.class", "util-v2");
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(readEntry(executable, "lib/Util.class"), "util-v2");
+    }
+
+    @Test
+    public void testEntryDroppedByChangedJarIsTakenFromNextJar() throws IOException {
+        writeJar(moduleJar, "app/Main.class", "main-v1", "lib/Shared.class", "shared-module");
+        writeJar(dependencyJar, "lib/Util.class", "util", "lib/Shared.class", "shared-dependency");
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(readEntry(executable, "lib/Shared.class"), "shared-module");
+
+        writeJar(moduleJar, "app/Main.class", "main-v2");
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v2");
+        Assert.assertEquals(readEntry(executable, "lib/Shared.class"), "shared-dependency");
+    }
+
+    @Test
+    public void testEntryDroppedByChangedJarIsRemoved() throws IOException {
+        writeJar(moduleJar, "app/Main.class", "main-v1", "app/Removed.class", "removed");
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+
+        writeJar(moduleJar, "app/Main.class", "main-v2");
+        Assert.assertEquals(assemble(manifest("app.Main")), "incremental");
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v2");
+        try (JarFile jarFile = new JarFile(executable.toFile())) {
+            Assert.assertNull(jarFile.getEntry("app/Removed.class"));
+        }
+    }
+
+    @Test
+    public void testNonIncrementalAssemblyWritesNoIndex() throws IOException {
+        Assert.assertEquals(assemble(manifest("app.Main")), "full");
+        Path indexFile = tempDir.resolve(".app.jar.index");
+        Assert.assertTrue(Files.exists(indexFile));
+
+        Assert.assertEquals(assemble(manifest("app.Main"), false), "full");
+        Assert.assertFalse(Files.exists(indexFile));
+        Assert.assertEquals(assemble(manifest("app.Main"), false), "full");
+        Assert.assertFalse(Files.exists(indexFile));
+        Assert.assertEquals(readEntry(executable, "app/Main.class"), "main-v1");
+    }
+
+    private String assemble(Manifest manifest) throws IOException {
+        return assemble(manifest, true);
+    }
+
+    private String assemble(Manifest manifest, boolean incremental) throws IOException {
+        ExecutableJarAssembler assembler = new ExecutableJarAssembler(executable, manifest,
+                List.of(moduleJar, dependencyJar), List.of(moduleJar), incremental);
+        assembler.assemble();
+        String assemblyTime = assembler.assemblyTime();
+        return assemblyTime.substring(assemblyTime.indexOf('(') + 1, assemblyTime.indexOf(')'));
+    }
+
+    private static Manifest manifest(String mainClass) {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+        return manifest;
+    }
+
+    /**
+     * Writes a jar with the given entries, given as pairs of an entry name and its content.
+     */
+    private static void writeJar(Path jarPath, String... entries) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             ZipOutputStream zipStream = new ZipOutputStream(outputStream)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                ZipEntry entry = new ZipEntry(entries[i]);
+                entry.setTime(0);
+                zipStream.putNextEntry(entry);
+                zipStream.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zipStream.closeEntry();
+            }
+        }
+    }
+
+    private static String readEntry(Path jarPath, String entryName) throws IOException {
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            ZipEntry entry = jarFile.getEntry(entryName);
+            Assert.assertNotNull(entry, entryName);
+            return new String(jarFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
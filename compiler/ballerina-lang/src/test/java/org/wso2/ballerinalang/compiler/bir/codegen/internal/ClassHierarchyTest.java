@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import org.objectweb.asm.ClassWriter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link ClassHierarchy} class.
+ *
+ * @since 2.0.0
+ */
+public class ClassHierarchyTest {
+
+    private static final String RUNTIME_VALUES_PACKAGE = "io/ballerina/runtime/internal/values/";
+
+    private final ClassHierarchy classHierarchy = new ClassHierarchy(ClassHierarchyTest.class.getClassLoader());
+
+    @DataProvider(name = "typePairs")
+    public Object[][] typePairs() {
+        return new Object[][]{
+                {"java/lang/Integer", "java/lang/Integer", "java/lang/Integer"},
+                {"java/lang/Integer", "java/lang/Long", "java/lang/Number"},
+                {"java/lang/String", "java/lang/Integer", "java/lang/Object"},
+                {"java/util/ArrayList", "java/util/LinkedList", "java/util/AbstractList"},
+                {"java/util/HashMap", "java/util/TreeMap", "java/util/AbstractMap"},
+                {"java/lang/IllegalStateException", "java/lang/IllegalArgumentException",
+                        "java/lang/RuntimeException"},
+                {"java/util/List", "java/util/ArrayList", "java/util/List"},
+                {"java/util/ArrayList", "java/util/Collection", "java/util/Collection"},
+                {"java/util/List", "java/util/Set", "java/lang/Object"},
+                {"java/lang/Runnable", "java/lang/String", "java/lang/Object"},
+                {RUNTIME_VALUES_PACKAGE + "ArrayValueImpl", RUNTIME_VALUES_PACKAGE + "TupleValueImpl",
+                        RUNTIME_VALUES_PACKAGE + "AbstractArrayValue"},
+                {RUNTIME_VALUES_PACKAGE + "TupleValueImpl", RUNTIME_VALUES_PACKAGE + "ArrayValue",
+                        RUNTIME_VALUES_PACKAGE + "ArrayValue"},
+                {RUNTIME_VALUES_PACKAGE + "MapValueImpl", RUNTIME_VALUES_PACKAGE + "TableValueImpl",
+                        "java/lang/Object"},
+                {RUNTIME_VALUES_PACKAGE + "ErrorValue", "java/lang/IllegalStateException",
+                        "java/lang/RuntimeException"},
+                {"java/lang/String", "does/not/Exist", "java/lang/Object"}
+        };
+    }
+
+    @Test(dataProvider = "typePairs")
+    public void testGetCommonSuperClass(String type1, String type2, String commonSuperClass) {
+        Assert.assertEquals(classHierarchy.getCommonSuperClass(type1, type2), commonSuperClass);
+        Assert.assertEquals(classHierarchy.getCommonSuperClass(type2, type1), commonSuperClass);
+    }
+
+    @DataProvider(name = "classPairs")
+    public Object[][] classPairs() {
+        return new Object[][]{
+                {"java/lang/Integer", "java/lang/Double"},
+                {"java/util/ArrayList", "java/util/Vector"},
+                {"java/util/concurrent/ConcurrentHashMap", "java/util/HashMap"},
+                {"java/io/FileNotFoundException", "java/io/EOFException"},
+                {"java/lang/ClassCastException", "java/lang/Error"},
+                {RUNTIME_VALUES_PACKAGE + "ArrayValueImpl", RUNTIME_VALUES_PACKAGE + "TupleValueImpl"},
+                {RUNTIME_VALUES_PACKAGE + "ErrorValue", "java/lang/NullPointerException"},
+                {RUNTIME_VALUES_PACKAGE + "MapValueImpl", "java/util/LinkedHashMap"}
+        };
+    }
+
+    @Test(dataProvider = "classPairs", description = "compares with the common super class of the loaded classes")
+    public void testGetCommonSuperClassOfLoadedClasses(String type1, String type2) {
+        Assert.assertEquals(classHierarchy.getCommonSuperClass(type1, type2),
+                new LoadingClassWriter().getCommonSuperClass(type1, type2));
+    }
+
+    /**
+     * Class writer which computes the common super class by loading the classes.
+     */
+    private static class LoadingClassWriter extends ClassWriter {
+
+        LoadingClassWriter() {
+            super(0);
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            return super.getCommonSuperClass(type1, type2);
+        }
+    }
+}
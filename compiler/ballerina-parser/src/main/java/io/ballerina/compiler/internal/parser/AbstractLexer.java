@@ -84,6 +84,15 @@ public abstract class AbstractLexer {
         this.modeStack.push(mode);
     }
 
+    /**
+     * Returns the current operation mode of the lexer.
+     *
+     * @return current mode
+     */
+    public ParserMode getCurrentMode() {
+        return this.mode;
+    }
+
     /**
      * Switch from current operation mode to the given operation mode in the lexer.
      *
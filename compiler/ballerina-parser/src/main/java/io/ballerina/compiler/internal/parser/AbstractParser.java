@@ -282,6 +282,15 @@ public abstract class AbstractParser {
                 DiagnosticErrorCode.ERROR_INVALID_TOKEN, invalidNode.text()));
     }
 
+    /**
+     * Checks whether there are invalid nodes waiting to be attached to the next consumed token.
+     *
+     * @return <code>true</code> if there are invalid nodes to be attached, <code>false</code> otherwise
+     */
+    protected boolean hasInvalidNodesToAttach() {
+        return !invalidNodeInfoStack.isEmpty();
+    }
+
     /**
      * Holds invalid node diagnostic information until the next token is consumed.
      *
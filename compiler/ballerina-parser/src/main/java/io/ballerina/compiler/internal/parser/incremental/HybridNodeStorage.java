@@ -18,6 +18,7 @@
 package io.ballerina.compiler.internal.parser.incremental;
 
 import io.ballerina.compiler.internal.parser.BallerinaLexer;
+import io.ballerina.compiler.internal.parser.ParserMode;
 import io.ballerina.compiler.internal.parser.tree.STToken;
 import io.ballerina.compiler.internal.parser.utils.PersistentStack;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -40,6 +41,7 @@ public class HybridNodeStorage {
 
     // TODO improve this implementation
     private final List<HybridNode> hybridNodeList;
+    private final BallerinaLexer lexer;
 
     private int consumedNodeIndex = 0;
     private int peekedNodeIndex = 0;
@@ -52,6 +54,7 @@ public class HybridNodeStorage {
                              BallerinaLexer lexer,
                              TextDocumentChange textDocumentChange) {
         this.hybridNodeList = new ArrayList<>(20);
+        this.lexer = lexer;
         this.hybridNodeList.add(createInitialNode(oldTree.rootNode(), lexer, textDocumentChange));
         consumedNodeIndex++;
         peekedNodeIndex++;
@@ -85,6 +88,8 @@ public class HybridNodeStorage {
         }
         HybridNode hybridNode = currentToken;
         currentToken = null;
+        // The peeked subtree is no longer the next node
+        currentNode = null;
         consumedNodeIndex++;
         return hybridNode;
     }
@@ -110,8 +115,18 @@ public class HybridNodeStorage {
         return peek(k);
     }
     
+    void startMode(ParserMode mode) {
+        this.lexer.startMode(mode);
+    }
+
+    void endMode() {
+        this.lexer.endMode();
+    }
+
     int getCurrentTokenIndex() {
-        return this.peekedNodeIndex;
+        // Like the token reader of the full parser, this only moves when a node is consumed. The error handler
+        // relies on it to detect that the parser has not made progress.
+        return this.consumedNodeIndex;
     }
 
     private HybridNode peek(int k) {
@@ -154,10 +169,28 @@ public class HybridNodeStorage {
     private PersistentStack<TextEditRange> markAffectedRanges(ModulePartNode oldTree,
                                                               TextDocumentChange textDocumentChange) {
         int textEditCount = textDocumentChange.getTextEditCount();
-        PersistentStack<TextEditRange> markedTextEdits = PersistentStack.getEmpty();
-        for (int index = textEditCount - 1; index >= 0; index--) {
+        List<TextEditRange> textEditRanges = new ArrayList<>(textEditCount);
+        for (int index = 0; index < textEditCount; index++) {
             TextEdit textEdit = textDocumentChange.getTextEdit(index);
-            markedTextEdits = markedTextEdits.push(markAffectedRange(oldTree, textEdit));
+            TextEditRange textEditRange = markAffectedRange(oldTree, textEdit);
+            int lastIndex = textEditRanges.size() - 1;
+            if (lastIndex >= 0 && textEditRange.oldStartOffset <= textEditRanges.get(lastIndex).oldEndOffset) {
+                // The affected range reaches back into the previous edit. The text in between is not unchanged,
+                // hence both edits are treated as a single edit.
+                TextEditRange prevTextEditRange = textEditRanges.get(lastIndex);
+                int newTextLength = prevTextEditRange.newTextLength +
+                        (textEdit.range().startOffset() - prevTextEditRange.oldEndOffset) + textEdit.text().length();
+                textEditRange = new TextEditRange(prevTextEditRange.oldStartOffset, textEdit.range().endOffset(),
+                        newTextLength);
+                textEditRanges.set(lastIndex, textEditRange);
+            } else {
+                textEditRanges.add(textEditRange);
+            }
+        }
+
+        PersistentStack<TextEditRange> markedTextEdits = PersistentStack.getEmpty();
+        for (int index = textEditRanges.size() - 1; index >= 0; index--) {
+            markedTextEdits = markedTextEdits.push(textEditRanges.get(index));
         }
         return markedTextEdits;
     }
@@ -17,10 +17,12 @@
  */
 package io.ballerina.compiler.internal.parser.incremental;
 
+import io.ballerina.compiler.internal.parser.ParserMode;
 import io.ballerina.compiler.internal.parser.tree.STToken;
 import io.ballerina.compiler.internal.parser.utils.PersistentStack;
 import io.ballerina.compiler.internal.syntax.SyntaxUtils;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.tools.text.TextRange;
 
@@ -157,7 +159,44 @@ class HybridNodes {
             return false;
         }
 
-        return noOverlapWithCurrentTextEdit(node, state.textEditRanges);
+        // Old nodes are lexed in the default mode. The lexer may have entered a different mode while lexing
+        // the new text. e.g. a backtick is inserted before the node.
+        if (state.lexer.getCurrentMode() != ParserMode.DEFAULT) {
+            return false;
+        }
+
+        // Nodes with diagnostics are the result of error recovery, which depends on the surrounding source.
+        // e.g. a token may carry the invalid tokens that follow it as minutiae, while the diagnostic is
+        // reported on the enclosing node. Hence such nodes are parsed again.
+        if (node.hasDiagnostics()) {
+            return false;
+        }
+
+        return noOverlapWithCurrentTextEdit(node, state.textEditRanges) && isReusableInParent(node);
+    }
+
+    private static boolean isReusableInParent(Node node) {
+        NonTerminalNode parent = node.parent();
+        while (parent != null) {
+            // Only the diagnostics of the parent itself are considered, since
+            // the diagnostics flag is propagated from the descendants.
+            if (!parent.internalNode().diagnostics().isEmpty()) {
+                return false;
+            }
+
+            // Nodes within these are not lexed in the default mode
+            switch (parent.kind()) {
+                case IMPORT_DECLARATION:
+                case STRING_TEMPLATE_EXPRESSION:
+                case XML_TEMPLATE_EXPRESSION:
+                case RAW_TEMPLATE_EXPRESSION:
+                    return false;
+                default:
+                    break;
+            }
+            parent = parent.parent();
+        }
+        return true;
     }
 
     private static boolean noOverlapWithCurrentTextEdit(Node oldNode,
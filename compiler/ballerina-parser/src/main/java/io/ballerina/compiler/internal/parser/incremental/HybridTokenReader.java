@@ -64,10 +64,12 @@ public class HybridTokenReader extends AbstractTokenReader {
 
     @Override
     public void startMode(ParserMode mode) {
+        this.hybridNodeStorage.startMode(mode);
     }
 
     @Override
     public void endMode() {
+        this.hybridNodeStorage.endMode();
     }
 
     @Override
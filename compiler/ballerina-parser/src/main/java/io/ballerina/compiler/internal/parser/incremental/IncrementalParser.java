@@ -58,9 +58,12 @@ public class IncrementalParser extends BallerinaParser {
     }
 
     private STNode getIfReusable(STNode node, Predicate<SyntaxKind> predicate) {
-        if (node != null && predicate.test(node.kind)) {
-            this.subtreeSupplier.consume();
+        // A subtree cannot carry the invalid nodes which should be attached to the next token
+        if (node == null || !predicate.test(node.kind) || hasInvalidNodesToAttach()) {
+            return null;
         }
+
+        this.subtreeSupplier.consume();
         return node;
     }
 
@@ -73,6 +76,7 @@ public class IncrementalParser extends BallerinaParser {
             kind == SyntaxKind.EXTERNAL_FUNCTION_BODY ||
             kind == SyntaxKind.EXPRESSION_FUNCTION_BODY;
 
+    // The else block of an if-else statement is within the statement kinds, but it is not a statement by itself
     private Predicate<SyntaxKind> isStatement = kind -> SyntaxKind.BLOCK_STATEMENT.compareTo(kind) <= 0 &&
-            SyntaxKind.INVALID_EXPRESSION_STATEMENT.compareTo(kind) >= 0;
+            SyntaxKind.INVALID_EXPRESSION_STATEMENT.compareTo(kind) >= 0 && kind != SyntaxKind.ELSE_BLOCK;
 }
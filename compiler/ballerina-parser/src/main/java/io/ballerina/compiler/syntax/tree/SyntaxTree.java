@@ -57,8 +57,14 @@ public class SyntaxTree {
     }
 
     public static SyntaxTree from(SyntaxTree oldTree, TextDocumentChange textDocumentChange) {
-        // TODO Improve the logic behind the creation of the new document
-        TextDocument newTextDocument = oldTree.textDocument().apply(textDocumentChange);
+        TextDocument oldTextDocument = oldTree.textDocument();
+        TextDocument newTextDocument = oldTextDocument.apply(textDocumentChange);
+        // Nodes of the old tree are reused at the offsets they had in the old text. If the old tree does not
+        // span the whole old text, those offsets are not reliable, hence the new text is parsed from scratch.
+        if (oldTree.rootNode().textRangeWithMinutiae().length() != oldTextDocument.length()) {
+            return from(newTextDocument, oldTree.filePath());
+        }
+
         BallerinaParser parser = ParserFactory.getParser(oldTree, newTextDocument, textDocumentChange);
         return new SyntaxTree(parser.parse().createUnlinkedFacade(),
                 newTextDocument, oldTree.filePath(), false);
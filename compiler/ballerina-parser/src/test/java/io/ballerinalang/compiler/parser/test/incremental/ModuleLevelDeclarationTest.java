@@ -80,4 +80,34 @@ public class ModuleLevelDeclarationTest extends AbstractIncrementalParserTest {
         Assert.assertEquals(newNodes[4].kind(), SyntaxKind.FUNCTION_DEFINITION);
         Assert.assertEquals(newNodes[5].kind(), SyntaxKind.MODULE_PART);
     }
+
+    @Test
+    public void testInvalidTokenBetweenModuleLevelDeclarations() {
+        String input = "import a/b;\n\nfunction foo() {\n}\n\nfunction bar() {\n}\n";
+        assertSameAsFullParse(input, TextEdit.from(TextRange.from(31, 0), ";"));
+    }
+
+    @Test
+    public void testInsertingTemplateStart() {
+        String input = "function foo() {\n    string s = \"a\";\n}\n\nfunction bar() {\n    int i = 0;\n}\n";
+        assertSameAsFullParse(input, TextEdit.from(TextRange.from(32, 0), "`"));
+    }
+
+    @Test
+    public void testChangingErroneousStatement() {
+        String input = "function foo() {\n    io:println(}2(3));\n}\nimport a/b;\n\nfunction bar() {\n}\n";
+        assertSameAsFullParse(input, TextEdit.from(TextRange.from(32, 1), "x"));
+    }
+
+    private void assertSameAsFullParse(String input, TextEdit textEdit) {
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(input));
+        TextDocumentChange textDocumentChange = TextDocumentChange.from(new TextEdit[]{textEdit});
+        SyntaxTree newTree = SyntaxTree.from(oldTree, textDocumentChange);
+
+        String newInput = input.substring(0, textEdit.range().startOffset()) + textEdit.text() +
+                input.substring(textEdit.range().endOffset());
+        SyntaxTree expectedTree = SyntaxTree.from(TextDocuments.from(newInput));
+        Assert.assertEquals(newTree.rootNode().toString(), expectedTree.rootNode().toString());
+        Assert.assertEquals(newTree.toSourceCode(), newInput);
+    }
 }
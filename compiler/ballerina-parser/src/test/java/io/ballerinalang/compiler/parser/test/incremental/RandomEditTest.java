@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerinalang.compiler.parser.test.incremental;
+
+import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STToken;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import io.ballerinalang.compiler.parser.test.ParserTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Applies sequences of random edits through the incremental parser, and compares each resulting tree with a full
+ * parse of the same text.
+ *
+ * @since 2.0.0
+ */
+public class RandomEditTest extends AbstractIncrementalParserTest {
+
+    private static final String SOURCE = "import ballerina/io;\n\n" +
+            "const int LIMIT = 10;\n\n" +
+            "type Person record {\n    string name;\n    int age = 0;\n};\n\n" +
+            "public function main() {\n" +
+            "    Person p = {name: \"Anne\", age: 20};\n" +
+            "    int[] values = [1, 2, 3];\n" +
+            "    foreach int v in values {\n" +
+            "        if v > LIMIT {\n            io:println(v);\n        } else {\n            continue;\n        }\n" +
+            "    }\n" +
+            "    string s = string `name: ${p.name}`;\n" +
+            "    xml x = xml `<a>${s}</a>`;\n" +
+            "    // comment\n" +
+            "    var r = from var v in values where v > 1 select v * 2;\n" +
+            "}\n\n" +
+            "function add(int a, int b) returns int {\n    return a + b;\n}\n";
+
+    private static final String[] FRAGMENTS = {"{", "}", "(", ")", "[", "]", ";", ",", ".", ":", "=", "`", "\"", "<",
+            ">", "${", "//", "/*", "\n", " ", "    ", "x", "int ", "1", "function ", "return ", "if ", "else ",
+            "import a/b;\n", "public ", "string `", "xml `<b>", "error", "type T int;\n", "@"};
+    private static final int EDIT_COUNT = 30;
+    private static final int MAX_EDIT_LENGTH = 4;
+
+    @DataProvider(name = "seeds")
+    public Object[][] seeds() {
+        return new Object[][]{{1L}, {7L}, {42L}, {1234L}, {98765L}};
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testRandomEditsOnSource(long seed) {
+        assertRandomEdits(SOURCE, seed);
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testRandomEditsOnFile(long seed) {
+        String text = ParserTestUtils.getSourceText(
+                Paths.get("incremental", "module_declarations", "module_declarations_old.bal"));
+        assertRandomEdits(text, seed);
+    }
+
+    private static void assertRandomEdits(String text, long seed) {
+        Random random = new Random(seed);
+        SyntaxTree tree = SyntaxTree.from(TextDocuments.from(text));
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            List<TextEdit> textEdits = randomEdits(random, text);
+            String context = "seed " + seed + ", edit " + i;
+            tree = assertIncrementalParse(tree, text, textEdits, context);
+            String newText = apply(text, textEdits);
+
+            // Edits which leave syntax errors are undone, as when typing in an editor, so that the errors of a text
+            // do not pile up. Recovering from many errors is expensive.
+            if (tree.hasDiagnostics()) {
+                tree = assertIncrementalParse(tree, newText, undoEdits(text, textEdits), context + " (undo)");
+            } else {
+                text = newText;
+            }
+        }
+    }
+
+    private static SyntaxTree assertIncrementalParse(SyntaxTree oldTree, String oldText, List<TextEdit> textEdits,
+                                                     String context) {
+        SyntaxTree newTree = SyntaxTree.from(oldTree, TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+        String newText = apply(oldText, textEdits);
+        SyntaxTree expectedTree = SyntaxTree.from(TextDocuments.from(newText));
+        // Error recovery of the full parser may reorder or drop the text of invalid nodes, in which case it cannot
+        // be the reference for the incremental parse
+        if (!expectedTree.toSourceCode().equals(newText)) {
+            return newTree;
+        }
+
+        context = context + ", text:\n" + oldText + "\nnew text:\n" + newText;
+        Assert.assertEquals(newTree.toSourceCode(), newText, context);
+        assertSameNode(newTree.rootNode().internalNode(), expectedTree.rootNode().internalNode(), context);
+        return newTree;
+    }
+
+    private static void assertSameNode(STNode actual, STNode expected, String context) {
+        if (expected == null) {
+            Assert.assertNull(actual, context);
+            return;
+        }
+        Assert.assertNotNull(actual, context);
+        String nodeContext = context + "\nnode: " + expected.kind + " '" + expected.toSourceCode() + "'";
+        Assert.assertEquals(actual.kind, expected.kind, nodeContext);
+        Assert.assertEquals(actual.widthWithMinutiae(), expected.widthWithMinutiae(), nodeContext);
+        Assert.assertEquals(actual.isMissing(), expected.isMissing(), nodeContext);
+        Assert.assertEquals(actual.hasDiagnostics(), expected.hasDiagnostics(), nodeContext);
+        if (expected instanceof STToken || expected.bucketCount() == 0) {
+            Assert.assertEquals(actual.toSourceCode(), expected.toSourceCode(), nodeContext);
+            if (expected instanceof STToken) {
+                assertSameNode(actual.leadingMinutiae(), expected.leadingMinutiae(), nodeContext);
+                assertSameNode(actual.trailingMinutiae(), expected.trailingMinutiae(), nodeContext);
+            }
+            return;
+        }
+
+        Assert.assertEquals(actual.bucketCount(), expected.bucketCount(), nodeContext);
+        for (int bucket = 0; bucket < expected.bucketCount(); bucket++) {
+            assertSameNode(actual.childInBucket(bucket), expected.childInBucket(bucket), nodeContext);
+        }
+    }
+
+    private static List<TextEdit> randomEdits(Random random, String text) {
+        // The edits of a change are ordered and do not overlap. Most changes from an editor have a single edit.
+        List<TextEdit> textEdits = new ArrayList<>();
+        int textLength = text.length();
+        int startOffset = 0;
+        int editCount = random.nextInt(4) == 0 ? 2 : 1;
+        for (int i = 0; i < editCount && startOffset <= textLength; i++) {
+            int editStart = startOffset + random.nextInt(textLength - startOffset + 1);
+            int editEnd = editStart + random.nextInt(Math.min(textLength - editStart, MAX_EDIT_LENGTH) + 1);
+            String newText;
+            if (random.nextInt(3) == 0) {
+                newText = "";
+            } else {
+                newText = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+            }
+            textEdits.add(TextEdit.from(TextRange.from(editStart, editEnd - editStart), newText));
+            startOffset = editEnd + 1;
+        }
+        return textEdits;
+    }
+
+    private static List<TextEdit> undoEdits(String text, List<TextEdit> textEdits) {
+        List<TextEdit> undoEdits = new ArrayList<>();
+        int offsetDelta = 0;
+        for (TextEdit textEdit : textEdits) {
+            TextRange range = textEdit.range();
+            String oldText = text.substring(range.startOffset(), range.endOffset());
+            undoEdits.add(TextEdit.from(TextRange.from(range.startOffset() + offsetDelta, textEdit.text().length()),
+                    oldText));
+            offsetDelta += textEdit.text().length() - range.length();
+        }
+        return undoEdits;
+    }
+
+    private static String apply(String text, List<TextEdit> textEdits) {
+        StringBuilder newText = new StringBuilder();
+        int startOffset = 0;
+        for (TextEdit textEdit : textEdits) {
+            newText.append(text, startOffset, textEdit.range().startOffset()).append(textEdit.text());
+            startOffset = textEdit.range().endOffset();
+        }
+        return newText.append(text.substring(startOffset)).toString();
+    }
+}
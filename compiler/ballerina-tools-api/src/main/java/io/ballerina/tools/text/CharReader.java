@@ -26,19 +26,30 @@ import java.util.Arrays;
  */
 public class CharReader {
 
+    // The chunk of the text which is currently read. The whole text is a single chunk, unless the
+    // characters are read directly from a rope.
     private char[] charBuffer;
+    private int charBufferStartOffset = 0;
     private int offset = 0;
-    private int charBufferLength;
+    private final int textLength;
+    private final RopeTextDocument ropeTextDocument;
 
     private int lexemeStartPos;
 
-    private CharReader(char[] buffer) {
+    CharReader(char[] buffer) {
         this.charBuffer = buffer;
-        this.charBufferLength = buffer.length;
+        this.textLength = buffer.length;
+        this.ropeTextDocument = null;
+    }
+
+    CharReader(RopeTextDocument ropeTextDocument) {
+        this.charBuffer = new char[0];
+        this.textLength = ropeTextDocument.length();
+        this.ropeTextDocument = ropeTextDocument;
     }
 
     public static CharReader from(TextDocument textDocument) {
-        return new CharReader(textDocument.toCharArray());
+        return textDocument.charReader();
     }
 
     public static CharReader from(String text) {
@@ -50,22 +61,11 @@ public class CharReader {
     }
 
     public char peek() {
-        if (offset < charBufferLength) {
-            return charBuffer[offset];
-        } else {
-            // TODO Revisit this branch
-            return Character.MAX_VALUE;
-        }
+        return charAt(offset);
     }
 
     public char peek(int k) {
-        int n = offset + k;
-        if (n < charBufferLength) {
-            return charBuffer[n];
-        } else {
-            // TODO Revisit this branch
-            return Character.MAX_VALUE;
-        }
+        return charAt(offset + k);
     }
 
     /**
@@ -91,10 +91,35 @@ public class CharReader {
      * @return {@link String} consist of the marked chars
      */
     public String getMarkedChars() {
-        return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        if (ropeTextDocument == null) {
+            return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        }
+
+        int startIndex = lexemeStartPos - charBufferStartOffset;
+        if (startIndex >= 0 && offset - charBufferStartOffset <= charBuffer.length) {
+            return new String(charBuffer, startIndex, offset - lexemeStartPos);
+        }
+        return ropeTextDocument.substring(lexemeStartPos, Math.min(offset, textLength));
     }
 
     public boolean isEOF() {
-        return offset >= charBufferLength;
+        return offset >= textLength;
+    }
+
+    private char charAt(int position) {
+        int index = position - charBufferStartOffset;
+        if (index >= 0 && index < charBuffer.length) {
+            return charBuffer[index];
+        }
+
+        if (ropeTextDocument == null || position < 0 || position >= textLength) {
+            // TODO Revisit this branch
+            return Character.MAX_VALUE;
+        }
+
+        RopeTextDocument.Chunk chunk = ropeTextDocument.chunkAt(position);
+        charBuffer = chunk.chars;
+        charBufferStartOffset = chunk.startOffset;
+        return charBuffer[position - charBufferStartOffset];
     }
 }
@@ -0,0 +1,456 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code RopeTextDocument} represents a {@code TextDocument} stored as an immutable rope.
+ * <p>
+ * Applying a {@code TextDocumentChange} shares the unchanged parts of the rope with the new document, hence an
+ * edit costs time proportional to the size of the edit and the depth of the rope, instead of the size of the
+ * document. Each node of the rope keeps the number of line breaks within it, so the lines of the document are
+ * located without building a line map for the whole document.
+ *
+ * @since 2.0.0
+ */
+class RopeTextDocument extends TextDocument {
+    private static final int MAX_LEAF_LENGTH = 1024;
+    private static final Leaf EMPTY_LEAF = new Leaf(new char[0]);
+
+    private final Node root;
+    private String text;
+
+    private RopeTextDocument(Node root) {
+        this.root = root;
+    }
+
+    static RopeTextDocument from(String text) {
+        return new RopeTextDocument(createNode(text.toCharArray(), 0, text.length()));
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        Node newRoot = EMPTY_LEAF;
+        int startOffset = 0;
+        int textEditCount = textDocumentChange.getTextEditCount();
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            newRoot = concat(newRoot, subNode(root, startOffset, textRange.startOffset()));
+            String newText = textEdit.text();
+            newRoot = concat(newRoot, createNode(newText.toCharArray(), 0, newText.length()));
+            startOffset = textRange.endOffset();
+        }
+        newRoot = concat(newRoot, subNode(root, startOffset, root.length));
+
+        if (!isBalanced(newRoot)) {
+            newRoot = rebalance(newRoot);
+        }
+        return new RopeTextDocument(newRoot);
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        int lineCount = lineCount();
+        TextLine[] textLines = new TextLine[lineCount];
+        for (int line = 0; line < lineCount; line++) {
+            textLines[line] = textLine(line, lineCount);
+        }
+        return new LineMap(textLines);
+    }
+
+    @Override
+    public TextLine line(int line) {
+        int lineCount = lineCount();
+        lineRangeCheck(line, lineCount);
+        return textLine(line, lineCount);
+    }
+
+    @Override
+    public LinePosition linePositionFrom(int textPosition) {
+        if (textPosition < 0 || textPosition > root.length) {
+            throw new IndexOutOfBoundsException("Index: '" + textPosition + "', Size: '" + root.length + "'");
+        }
+
+        // The line of a position is the number of line breaks which end at or before the position
+        int line = root.lineBreaksBefore(textPosition);
+        if (root.endsWithCR && textPosition == root.length) {
+            line++;
+        }
+        return LinePosition.from(line, textPosition - lineStartOffset(line));
+    }
+
+    @Override
+    public int textPositionFrom(LinePosition linePosition) {
+        int lineCount = lineCount();
+        lineRangeCheck(linePosition.line(), lineCount);
+        TextLine textLine = textLine(linePosition.line(), lineCount);
+        if (textLine.length() < linePosition.offset()) {
+            throw new IllegalArgumentException("Cannot find a line with the character offset '" +
+                    linePosition.offset() + "'");
+        }
+        return textLine.startOffset() + linePosition.offset();
+    }
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[root.length];
+        root.copyTo(chars, 0, 0, root.length);
+        return chars;
+    }
+
+    @Override
+    CharReader charReader() {
+        return new CharReader(this);
+    }
+
+    public String toString() {
+        if (text == null) {
+            text = new String(toCharArray());
+        }
+        return text;
+    }
+
+    @Override
+    public int length() {
+        return root.length;
+    }
+
+    /**
+     * Returns the leaf of the rope which contains the character at the given position.
+     *
+     * @param position position of the character
+     * @return the leaf chunk and its start offset
+     */
+    Chunk chunkAt(int position) {
+        Node node = root;
+        int startOffset = 0;
+        while (node instanceof Concat) {
+            Concat concat = (Concat) node;
+            if (position < startOffset + concat.left.length) {
+                node = concat.left;
+            } else {
+                startOffset += concat.left.length;
+                node = concat.right;
+            }
+        }
+        return new Chunk(((Leaf) node).chars, startOffset);
+    }
+
+    String substring(int startOffset, int endOffset) {
+        char[] chars = new char[endOffset - startOffset];
+        root.copyTo(chars, 0, startOffset, endOffset);
+        return new String(chars);
+    }
+
+    private int lineCount() {
+        return root.lineBreaks + (root.endsWithCR ? 1 : 0) + 1;
+    }
+
+    private int lineStartOffset(int line) {
+        if (line == 0) {
+            return 0;
+        } else if (line > root.lineBreaks) {
+            // The document ends with a carriage return
+            return root.length;
+        }
+        return root.lineBreakEndOffset(line);
+    }
+
+    private TextLine textLine(int line, int lineCount) {
+        int startOffset = lineStartOffset(line);
+        if (line == lineCount - 1) {
+            return new TextLine(line, substring(startOffset, root.length), startOffset, root.length, 0);
+        }
+
+        int endOffsetWithNewLines = lineStartOffset(line + 1);
+        String lineText = substring(startOffset, endOffsetWithNewLines);
+        int lengthOfNewLineChars = lineText.endsWith("\r\n") ? 2 : 1;
+        int endOffset = endOffsetWithNewLines - lengthOfNewLineChars;
+        return new TextLine(line, lineText.substring(0, lineText.length() - lengthOfNewLineChars),
+                startOffset, endOffset, lengthOfNewLineChars);
+    }
+
+    private static void lineRangeCheck(int lineNo, int lineCount) {
+        if (lineNo < 0 || lineNo >= lineCount) {
+            throw new IndexOutOfBoundsException("Line number: '" + lineNo + "', Size: '" + lineCount + "'");
+        }
+    }
+
+    private static Node createNode(char[] chars, int startOffset, int endOffset) {
+        int length = endOffset - startOffset;
+        if (length <= MAX_LEAF_LENGTH) {
+            return length == 0 ? EMPTY_LEAF : new Leaf(Arrays.copyOfRange(chars, startOffset, endOffset));
+        }
+
+        int middle = (startOffset + endOffset) >>> 1;
+        return new Concat(createNode(chars, startOffset, middle), createNode(chars, middle, endOffset));
+    }
+
+    private static Node subNode(Node node, int startOffset, int endOffset) {
+        if (startOffset >= endOffset) {
+            return EMPTY_LEAF;
+        } else if (startOffset == 0 && endOffset == node.length) {
+            return node;
+        }
+
+        if (node instanceof Leaf) {
+            return new Leaf(Arrays.copyOfRange(((Leaf) node).chars, startOffset, endOffset));
+        }
+
+        Concat concat = (Concat) node;
+        int leftLength = concat.left.length;
+        if (endOffset <= leftLength) {
+            return subNode(concat.left, startOffset, endOffset);
+        } else if (startOffset >= leftLength) {
+            return subNode(concat.right, startOffset - leftLength, endOffset - leftLength);
+        }
+        return concat(subNode(concat.left, startOffset, leftLength),
+                subNode(concat.right, 0, endOffset - leftLength));
+    }
+
+    private static Node concat(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        } else if (right.length == 0) {
+            return left;
+        }
+
+        // Merge small leaves, so that repeated edits at the same place do not fragment the rope
+        if (left instanceof Leaf && right instanceof Leaf && left.length + right.length <= MAX_LEAF_LENGTH) {
+            char[] chars = Arrays.copyOf(((Leaf) left).chars, left.length + right.length);
+            System.arraycopy(((Leaf) right).chars, 0, chars, left.length, right.length);
+            return new Leaf(chars);
+        }
+        return new Concat(left, right);
+    }
+
+    private static boolean isBalanced(Node node) {
+        // A balanced binary tree with n leaves has a depth of log2(n)
+        int leafCountLog = 32 - Integer.numberOfLeadingZeros(node.leafCount);
+        return node.depth <= 2 * leafCountLog + 4;
+    }
+
+    private static Node rebalance(Node node) {
+        List<Leaf> leaves = new ArrayList<>(node.leafCount);
+        node.collectLeaves(leaves);
+        if (leaves.isEmpty()) {
+            return EMPTY_LEAF;
+        }
+        return createBalancedNode(leaves, 0, leaves.size());
+    }
+
+    private static Node createBalancedNode(List<Leaf> leaves, int startIndex, int endIndex) {
+        if (endIndex - startIndex == 1) {
+            return leaves.get(startIndex);
+        }
+
+        int middle = (startIndex + endIndex) >>> 1;
+        return concat(createBalancedNode(leaves, startIndex, middle), createBalancedNode(leaves, middle, endIndex));
+    }
+
+    /**
+     * A leaf of the rope, used by the {@code CharReader} to read the characters of the document.
+     */
+    static class Chunk {
+        final char[] chars;
+        final int startOffset;
+
+        private Chunk(char[] chars, int startOffset) {
+            this.chars = chars;
+            this.startOffset = startOffset;
+        }
+    }
+
+    /**
+     * A node of the rope.
+     * <p>
+     * A line break is either a {@code \n}, a {@code \r\n} or a {@code \r} which is not followed by a {@code \n}.
+     * A {@code \r} at the end of a node is not counted as a line break of the node, since it may be followed by
+     * a {@code \n} in the next node.
+     */
+    private abstract static class Node {
+        final int length;
+        final int lineBreaks;
+        final boolean startsWithLF;
+        final boolean endsWithCR;
+        final int depth;
+        final int leafCount;
+
+        Node(int length, int lineBreaks, boolean startsWithLF, boolean endsWithCR, int depth, int leafCount) {
+            this.length = length;
+            this.lineBreaks = lineBreaks;
+            this.startsWithLF = startsWithLF;
+            this.endsWithCR = endsWithCR;
+            this.depth = depth;
+            this.leafCount = leafCount;
+        }
+
+        /**
+         * Returns the offset right after the n-th line break of this node.
+         *
+         * @param n line break number, starting from one
+         * @return the end offset of the line break within this node
+         */
+        abstract int lineBreakEndOffset(int n);
+
+        /**
+         * Returns the number of line breaks of this node, which end at or before the given position.
+         *
+         * @param position position within this node
+         * @return the number of line breaks before the position
+         */
+        abstract int lineBreaksBefore(int position);
+
+        abstract void copyTo(char[] dest, int destOffset, int startOffset, int endOffset);
+
+        abstract void collectLeaves(List<Leaf> leaves);
+    }
+
+    private static class Leaf extends Node {
+        final char[] chars;
+        // End offsets of the line breaks within the leaf
+        final int[] lineBreakEndOffsets;
+
+        Leaf(char[] chars) {
+            this(chars, findLineBreakEndOffsets(chars));
+        }
+
+        private Leaf(char[] chars, int[] lineBreakEndOffsets) {
+            super(chars.length, lineBreakEndOffsets.length, chars.length > 0 && chars[0] == '\n',
+                    chars.length > 0 && chars[chars.length - 1] == '\r', 0, 1);
+            this.chars = chars;
+            this.lineBreakEndOffsets = lineBreakEndOffsets;
+        }
+
+        private static int[] findLineBreakEndOffsets(char[] chars) {
+            int[] lineBreakEndOffsets = new int[8];
+            int lineBreaks = 0;
+            for (int i = 0; i < chars.length; i++) {
+                char c = chars[i];
+                if (c == '\n' || (c == '\r' && i + 1 < chars.length && chars[i + 1] != '\n')) {
+                    if (lineBreaks == lineBreakEndOffsets.length) {
+                        lineBreakEndOffsets = Arrays.copyOf(lineBreakEndOffsets, lineBreaks * 2);
+                    }
+                    lineBreakEndOffsets[lineBreaks++] = i + 1;
+                }
+            }
+            return Arrays.copyOf(lineBreakEndOffsets, lineBreaks);
+        }
+
+        @Override
+        int lineBreakEndOffset(int n) {
+            return lineBreakEndOffsets[n - 1];
+        }
+
+        @Override
+        int lineBreaksBefore(int position) {
+            int index = Arrays.binarySearch(lineBreakEndOffsets, position);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        @Override
+        void copyTo(char[] dest, int destOffset, int startOffset, int endOffset) {
+            System.arraycopy(chars, startOffset, dest, destOffset, endOffset - startOffset);
+        }
+
+        @Override
+        void collectLeaves(List<Leaf> leaves) {
+            if (length == 0) {
+                return;
+            }
+
+            // Merge the small leaves left behind by the edits
+            int lastIndex = leaves.size() - 1;
+            if (lastIndex >= 0 && leaves.get(lastIndex).length + length <= MAX_LEAF_LENGTH) {
+                leaves.set(lastIndex, (Leaf) concat(leaves.get(lastIndex), this));
+            } else {
+                leaves.add(this);
+            }
+        }
+    }
+
+    private static class Concat extends Node {
+        final Node left;
+        final Node right;
+
+        Concat(Node left, Node right) {
+            super(left.length + right.length,
+                    left.lineBreaks + right.lineBreaks + (isCRLineBreak(left, right) ? 1 : 0),
+                    left.startsWithLF, right.endsWithCR, Math.max(left.depth, right.depth) + 1,
+                    left.leafCount + right.leafCount);
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Returns whether the {@code \r} at the end of the left node is a line break by itself.
+         */
+        private static boolean isCRLineBreak(Node left, Node right) {
+            return left.endsWithCR && !right.startsWithLF;
+        }
+
+        @Override
+        int lineBreakEndOffset(int n) {
+            if (n <= left.lineBreaks) {
+                return left.lineBreakEndOffset(n);
+            }
+
+            int leftLineBreaks = left.lineBreaks;
+            if (isCRLineBreak(left, right)) {
+                leftLineBreaks++;
+                if (n == leftLineBreaks) {
+                    return left.length;
+                }
+            }
+            return left.length + right.lineBreakEndOffset(n - leftLineBreaks);
+        }
+
+        @Override
+        int lineBreaksBefore(int position) {
+            if (position < left.length) {
+                return left.lineBreaksBefore(position);
+            }
+
+            int leftLineBreaks = left.lineBreaks + (isCRLineBreak(left, right) ? 1 : 0);
+            return leftLineBreaks + right.lineBreaksBefore(position - left.length);
+        }
+
+        @Override
+        void copyTo(char[] dest, int destOffset, int startOffset, int endOffset) {
+            int leftLength = left.length;
+            if (startOffset < leftLength) {
+                int leftEndOffset = Math.min(endOffset, leftLength);
+                left.copyTo(dest, destOffset, startOffset, leftEndOffset);
+                destOffset += leftEndOffset - startOffset;
+            }
+            if (endOffset > leftLength) {
+                right.copyTo(dest, destOffset, Math.max(startOffset - leftLength, 0), endOffset - leftLength);
+            }
+        }
+
+        @Override
+        void collectLeaves(List<Leaf> leaves) {
+            left.collectLeaves(leaves);
+            right.collectLeaves(leaves);
+        }
+    }
+}
@@ -35,18 +35,8 @@ class StringTextDocument extends TextDocument {
 
     @Override
     public TextDocument apply(TextDocumentChange textDocumentChange) {
-        int startOffset = 0;
-        StringBuilder sb = new StringBuilder();
-        int textEditCount = textDocumentChange.getTextEditCount();
-        for (int i = 0; i < textEditCount; i++) {
-            TextEdit textEdit = textDocumentChange.getTextEdit(i);
-            TextRange textRange = textEdit.range();
-            sb.append(text, startOffset, textRange.startOffset());
-            sb.append(textEdit.text());
-            startOffset = textRange.endOffset();
-        }
-        sb.append(text, startOffset, text.length());
-        return new StringTextDocument(sb.toString());
+        // Edited documents are kept as ropes, so that the subsequent edits do not copy the whole text
+        return RopeTextDocument.from(text).apply(textDocumentChange);
     }
 
     @Override
@@ -63,6 +53,11 @@ class StringTextDocument extends TextDocument {
         return this.text.toCharArray();
     }
 
+    @Override
+    public int length() {
+        return this.text.length();
+    }
+
     public String toString() {
         return text;
     }
@@ -70,7 +65,6 @@ class StringTextDocument extends TextDocument {
     private TextLine[] calculateTextLines() {
         int startOffset = 0;
         List<TextLine> textLines = new ArrayList<>();
-        StringBuilder lineBuilder = new StringBuilder();
         int index = 0;
         int line = 0;
         int textLength = text.length();
@@ -84,20 +78,15 @@ class StringTextDocument extends TextDocument {
                 } else {
                     lengthOfNewLineChars = 1;
                 }
-                String strLine = lineBuilder.toString();
-                int endOffset = startOffset + strLine.length();
-                textLines.add(new TextLine(line++, strLine, startOffset, endOffset, lengthOfNewLineChars));
-                startOffset = endOffset + lengthOfNewLineChars;
-                lineBuilder = new StringBuilder();
+                textLines.add(new TextLine(line++, text.substring(startOffset, index), startOffset, index,
+                        lengthOfNewLineChars));
                 index += lengthOfNewLineChars;
+                startOffset = index;
             } else {
-                lineBuilder.append(c);
                 index++;
             }
         }
-
-        String strLine = lineBuilder.toString();
-        textLines.add(new TextLine(line, strLine, startOffset, startOffset + strLine.length(), 0));
+        textLines.add(new TextLine(line, text.substring(startOffset), startOffset, textLength, 0));
         return textLines.toArray(new TextLine[0]);
     }
 }
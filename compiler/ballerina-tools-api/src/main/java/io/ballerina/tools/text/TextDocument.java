@@ -38,6 +38,25 @@ public abstract class TextDocument {
      */
     public abstract char[] toCharArray();
 
+    /**
+     * Returns the number of characters in the current text.
+     *
+     * @return the length of the text
+     * @since 2.0.0
+     */
+    public int length() {
+        return toCharArray().length;
+    }
+
+    /**
+     * Returns a {@code CharReader} which reads the current text.
+     *
+     * @return a char reader
+     */
+    CharReader charReader() {
+        return new CharReader(toCharArray());
+    }
+
     public TextLine line(int line) {
         return lines().textLine(line);
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.tools.test.text;
+
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the text documents created by applying edits, which are kept as ropes, with the text documents created
+ * from the text of the edited document.
+ *
+ * @since 2.0.0
+ */
+public class RopeTextDocumentTest {
+
+    private static final String[] FRAGMENTS = {"a", "bc", "def ", "\r", "\n", "\r\n", "\n\r", "x\r", "\ny"};
+    private static final int EDIT_COUNT = 200;
+
+    @DataProvider(name = "seeds")
+    public Object[][] seeds() {
+        return new Object[][]{{1L}, {7L}, {42L}, {1234L}, {98765L}};
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testRandomEdits(long seed) {
+        Random random = new Random(seed);
+        String text = randomText(random, random.nextInt(3000));
+        TextDocument textDocument = TextDocuments.from(text);
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            List<TextEdit> textEdits = randomEdits(random, text.length());
+            textDocument = textDocument.apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+            text = apply(text, textEdits);
+            assertSameDocument(textDocument, text, "seed " + seed + ", edit " + i);
+        }
+    }
+
+    @Test
+    public void testLineBreaksSplitByEdits() {
+        // A CRLF line break is formed and split by edits at the boundaries of the rope nodes
+        TextDocument textDocument = TextDocuments.from("a\rb\nc");
+        String[][] edits = {{"2", "3", ""}, {"1", "1", "\r"}, {"2", "3", "\n"}, {"5", "5", "\r"}, {"0", "0", "\n"}};
+        String text = "a\rb\nc";
+        for (String[] edit : edits) {
+            int startOffset = Integer.parseInt(edit[0]);
+            int endOffset = Integer.parseInt(edit[1]);
+            List<TextEdit> textEdits = List.of(
+                    TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), edit[2]));
+            textDocument = textDocument.apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+            text = apply(text, textEdits);
+            assertSameDocument(textDocument, text, "text '" + escape(text) + "'");
+        }
+    }
+
+    private static void assertSameDocument(TextDocument actual, String text, String context) {
+        TextDocument expected = TextDocuments.from(text);
+        Assert.assertEquals(actual.toString(), text, context);
+        Assert.assertEquals(actual.length(), text.length(), context);
+
+        int lineCount = lineCount(text);
+        for (int line = 0; line < lineCount; line++) {
+            TextLine actualLine = actual.line(line);
+            TextLine expectedLine = expected.line(line);
+            String lineContext = context + ", line " + line;
+            Assert.assertEquals(actualLine.lineNo(), expectedLine.lineNo(), lineContext);
+            Assert.assertEquals(actualLine.text(), expectedLine.text(), lineContext);
+            Assert.assertEquals(actualLine.startOffset(), expectedLine.startOffset(), lineContext);
+            Assert.assertEquals(actualLine.endOffset(), expectedLine.endOffset(), lineContext);
+            Assert.assertEquals(actualLine.endOffsetWithNewLines(), expectedLine.endOffsetWithNewLines(),
+                    lineContext);
+
+            for (int offset = 0; offset <= expectedLine.length(); offset++) {
+                LinePosition linePosition = LinePosition.from(line, offset);
+                Assert.assertEquals(actual.textPositionFrom(linePosition), expected.textPositionFrom(linePosition),
+                        lineContext + ", offset " + offset);
+            }
+        }
+
+        for (int position = 0; position <= text.length(); position++) {
+            Assert.assertEquals(actual.linePositionFrom(position), expected.linePositionFrom(position),
+                    context + ", position " + position);
+        }
+    }
+
+    private static List<TextEdit> randomEdits(Random random, int textLength) {
+        // The edits of a change are ordered and do not overlap
+        List<TextEdit> textEdits = new ArrayList<>();
+        int startOffset = 0;
+        int editCount = 1 + random.nextInt(3);
+        for (int i = 0; i < editCount && startOffset <= textLength; i++) {
+            int editStart = startOffset + random.nextInt(textLength - startOffset + 1);
+            int editEnd = editStart + random.nextInt(Math.min(textLength - editStart, 20) + 1);
+            String newText = random.nextInt(4) == 0 ? "" : randomText(random, random.nextInt(8));
+            textEdits.add(TextEdit.from(TextRange.from(editStart, editEnd - editStart), newText));
+            startOffset = editEnd + 1;
+        }
+        return textEdits;
+    }
+
+    private static String apply(String text, List<TextEdit> textEdits) {
+        StringBuilder newText = new StringBuilder();
+        int startOffset = 0;
+        for (TextEdit textEdit : textEdits) {
+            newText.append(text, startOffset, textEdit.range().startOffset()).append(textEdit.text());
+            startOffset = textEdit.range().endOffset();
+        }
+        return newText.append(text.substring(startOffset)).toString();
+    }
+
+    private static String randomText(Random random, int fragmentCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < fragmentCount; i++) {
+            text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static int lineCount(String text) {
+        int lineCount = 1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == text.length() || text.charAt(i + 1) != '\n'))) {
+                lineCount++;
+            }
+        }
+        return lineCount;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\r", "\\r").replace("\n", "\\n");
+    }
+}
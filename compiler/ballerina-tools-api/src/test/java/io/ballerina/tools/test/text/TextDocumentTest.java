@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.tools.test.text;
+
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Contains cases to validate the length of text documents.
+ *
+ * @since 2.0.0
+ */
+public class TextDocumentTest {
+
+    @Test
+    public void testLength() {
+        Assert.assertEquals(TextDocuments.from("").length(), 0);
+        Assert.assertEquals(TextDocuments.from("int a = 1;").length(), 10);
+        // Line breaks are counted as they appear in the text
+        Assert.assertEquals(TextDocuments.from("a\r\nb\rc\n").length(), 7);
+    }
+
+    @Test
+    public void testLengthAfterEdits() {
+        TextDocument textDocument = TextDocuments.from("function foo() {\r\n}\n");
+        TextEdit[] textEdits = {
+                TextEdit.from(TextRange.from(9, 3), "bar"),
+                TextEdit.from(TextRange.from(16, 2), "\n    int a = 1;\n")
+        };
+        TextDocument newTextDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+
+        String newText = "function bar() {\n    int a = 1;\n}\n";
+        Assert.assertEquals(newTextDocument.toString(), newText);
+        Assert.assertEquals(newTextDocument.length(), newText.length());
+        Assert.assertEquals(newTextDocument.length(), newTextDocument.toCharArray().length);
+        Assert.assertEquals(textDocument.length(), 20);
+    }
+}
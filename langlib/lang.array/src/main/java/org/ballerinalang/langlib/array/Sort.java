@@ -28,12 +28,17 @@ import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -47,6 +52,9 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    // Arrays of at least this size are sorted in parallel
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
@@ -56,30 +64,69 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        int size = arr.size();
+        if (function == null && sortValues(arr, size, isAscending)) {
+            return arr;
+        }
+
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+
+        IndexComparator comparator;
+        boolean isParallel = size >= PARALLEL_SORT_THRESHOLD;
         if (function != null) {
-            boolean elementTypeIdentified = false;
             elemType = ((FunctionType) function.getType()).getReturnType();
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                // Get the type of the sortArr elements when there is an arrow expression as the key function
-                if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
-                        ((UnionType) elemType).getMemberTypes().size() > 2) {
-                    Type sortArrElemType = TypeChecker.getType(sortArr[i][0]);
-                    if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
-                        elemType = sortArrElemType;
-                        elementTypeIdentified = true;
+            if (TypeTags.isIntegerTypeTag(elemType.getTag())) {
+                comparator = getIntKeyComparator(function, values, isAscending);
+            } else if (elemType.getTag() == TypeTags.FLOAT_TAG) {
+                comparator = getFloatKeyComparator(function, values, isAscending);
+            } else {
+                Object[] keys = new Object[size];
+                boolean elementTypeIdentified = false;
+                for (int i = 0; i < size; i++) {
+                    keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+                    // Get the type of the keys when there is an arrow expression as the key function
+                    if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
+                            ((UnionType) elemType).getMemberTypes().size() > 2) {
+                        Type keyType = TypeChecker.getType(keys[i]);
+                        if (keyType.getTag() != TypeTags.NULL_TAG) {
+                            elemType = keyType;
+                            elementTypeIdentified = true;
+                        }
                     }
                 }
-                sortArr[i][1] = arr.get(i);
+                elemType = getSortType(elemType);
+                comparator = getComparator(keys, isAscending, elemType);
+                // The values are compared in parallel only if they can be compared without an error
+                isParallel = isParallel && isOrderedType(elemType);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
-            }
+            elemType = getSortType(elemType);
+            comparator = getComparator(values, isAscending, elemType);
+            isParallel = isParallel && isOrderedType(elemType);
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] aux = new int[size];
+        if (isParallel) {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(order, aux, 0, size - 1, comparator));
+        } else {
+            mergesort(order, aux, 0, size - 1, comparator);
         }
 
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[order[k]]);
+        }
+
+        return arr;
+    }
+
+    private static Type getSortType(Type elemType) {
         if (elemType.getTag() == TypeTags.UNION_TAG) {
             elemType = getMemberType((UnionType) elemType);
         }
@@ -90,14 +137,7 @@ public class Sort {
                 elemType = TypeCreator.createArrayType(memberType);
             }
         }
-
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
-
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
-        }
-
-        return arr;
+        return elemType;
     }
 
     private static Type getMemberType(UnionType unionType) {
@@ -110,22 +150,178 @@ public class Sort {
         return unionType;
     }
 
+    /**
+     * Sorts the values of an array of ints, floats or strings in place, without boxing them.
+     *
+     * @param arr         array to sort
+     * @param size        size of the array
+     * @param isAscending whether the values are sorted in ascending order
+     * @return whether the array is sorted
+     */
+    private static boolean sortValues(BArray arr, int size, boolean isAscending) {
+        // Readonly arrays are sorted as other arrays, which fails when the sorted values are added
+        if (!(arr instanceof ArrayValueImpl) || arr.isFrozen()) {
+            return false;
+        }
+
+        ArrayValueImpl array = (ArrayValueImpl) arr;
+        if (array.getIntValues() != null) {
+            sortInts(array.getIntValues(), size, isAscending);
+            return true;
+        }
+        if (array.getFloatValues() != null) {
+            sortFloats(array.getFloatValues(), size, isAscending);
+            return true;
+        }
+        if (array.getBStringValues() != null) {
+            Comparator<BString> comparator = (str1, str2) -> codePointCompare(str1.getValue(), str2.getValue());
+            BString[] values = array.getBStringValues();
+            if (size >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(values, 0, size, isAscending ? comparator : comparator.reversed());
+            } else {
+                Arrays.sort(values, 0, size, isAscending ? comparator : comparator.reversed());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void sortInts(long[] values, int size, boolean isAscending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                long value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    private static void sortFloats(double[] values, int size, boolean isAscending) {
+        // -0.0 = +0.0, hence zeros are kept in the order they are in the array, as by a stable sort
+        int zeros = 0;
+        int negativeZeros = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeros++;
+                if (Double.doubleToRawLongBits(values[i]) != 0) {
+                    negativeZeros++;
+                }
+            }
+        }
+        double[] orderedZeros = null;
+        if (negativeZeros > 0 && negativeZeros < zeros) {
+            orderedZeros = new double[zeros];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (values[i] == 0) {
+                    orderedZeros[j++] = values[i];
+                }
+            }
+        }
+
+        // NaN is placed last irrespective of the sort direction, as by Arrays.sort in ascending order
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        int numbers = size;
+        while (numbers > 0 && Double.isNaN(values[numbers - 1])) {
+            numbers--;
+        }
+        if (!isAscending) {
+            for (int i = 0, j = numbers - 1; i < j; i++, j--) {
+                double value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+        if (orderedZeros != null) {
+            int firstZero = 0;
+            while (values[firstZero] != 0) {
+                firstZero++;
+            }
+            System.arraycopy(orderedZeros, 0, values, firstZero, zeros);
+        }
+    }
+
+    private static IndexComparator getIntKeyComparator(BFunctionPointer<Object, Object> function, Object[] values,
+                                                       boolean isAscending) {
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = ((Number) function.call(new Object[]{Scheduler.getStrand(), values[i], true})).longValue();
+        }
+        if (isAscending) {
+            return (index1, index2) -> Long.compare(keys[index1], keys[index2]);
+        }
+        return (index1, index2) -> Long.compare(keys[index2], keys[index1]);
+    }
+
+    private static IndexComparator getFloatKeyComparator(BFunctionPointer<Object, Object> function, Object[] values,
+                                                         boolean isAscending) {
+        double[] keys = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = (Double) function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+        }
+        return (index1, index2) -> {
+            double key1 = keys[index1];
+            double key2 = keys[index2];
+            // NaN should be placed last irrespective of the sort direction.
+            if (Double.isNaN(key1) || Double.isNaN(key2)) {
+                return Boolean.compare(Double.isNaN(key1), Double.isNaN(key2));
+            }
+            // -0.0 = +0.0
+            if (key1 == key2) {
+                return 0;
+            }
+            return isAscending ? Double.compare(key1, key2) : Double.compare(key2, key1);
+        };
+    }
+
+    private static IndexComparator getComparator(Object[] keys, boolean isAscending, Type type) {
+        if (isAscending) {
+            return (index1, index2) -> sortFunc(keys[index1], keys[index2], type, true);
+        }
+        return (index1, index2) -> sortFunc(keys[index2], keys[index1], type, false);
+    }
+
+    private static boolean isOrderedType(Type type) {
+        int tag = type.getTag();
+        if (TypeTags.isIntegerTypeTag(tag) || TypeTags.isStringTypeTag(tag)) {
+            return true;
+        }
+        switch (tag) {
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.BYTE_TAG:
+                return true;
+            case TypeTags.ARRAY_TAG:
+                return isOrderedType(((ArrayType) type).getElementType());
+            default:
+                return false;
+        }
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
+    private static void mergesort(int[] input, int[] aux, int lo, int hi, IndexComparator comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
-                              Type type) {
+    private static void merge(int[] input, int[] aux, int lo, int mid, int hi, IndexComparator comparator) {
         if (hi + 1 - lo >= 0) {
             System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
         }
@@ -136,9 +332,7 @@ public class Sort {
                 index = j++;
             } else if (j > hi) {
                 index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
-                index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
                 index = j++;
             } else {
                 index = i++;
@@ -228,24 +422,69 @@ public class Sort {
                                                                        type.toString() + "'"));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
+    /**
+     * Compares two strings by the code points of their characters, as in {@code str1 < str2}.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return a negative value, zero or a positive value as the first string is less than, equal to or greater than
+     * the second string
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int len = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < len; i++) {
+            char char1 = str1.charAt(i);
+            char char2 = str2.charAt(i);
+            if (char1 != char2) {
+                // Surrogates are ordered after the other chars, since they encode code points above U+FFFF
+                if (char1 >= Character.MIN_SURROGATE && char2 >= Character.MIN_SURROGATE) {
+                    char1 = (char) (char1 >= 0xE000 ? char1 - 0x800 : char1 + 0x2000);
+                    char2 = (char) (char2 >= 0xE000 ? char2 - 0x800 : char2 + 0x2000);
+                }
+                return Integer.compare(char1, char2);
             }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
+        }
+        return Integer.compare(str1.length(), str2.length());
+    }
 
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
+    /**
+     * Compares the values at the given indexes of the array being sorted.
+     */
+    private interface IndexComparator {
+
+        int compare(int index1, int index2);
+    }
+
+    /**
+     * Merge sort which sorts the halves of large ranges in parallel.
+     */
+    private static class MergeSortTask extends RecursiveAction {
+
+        private final int[] input;
+        private final int[] aux;
+        private final int lo;
+        private final int hi;
+        private final IndexComparator comparator;
+
+        MergeSortTask(int[] input, int[] aux, int lo, int hi, IndexComparator comparator) {
+            this.input = input;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
         }
-        if (iterator2.hasNext()) {
-            return -1;
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                mergesort(input, aux, lo, hi, comparator);
+                return;
+            }
+
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new MergeSortTask(input, aux, lo, mid, comparator),
+                      new MergeSortTask(input, aux, mid + 1, hi, comparator));
+            merge(input, aux, lo, mid, hi, comparator);
         }
-        return 0;
     }
 }
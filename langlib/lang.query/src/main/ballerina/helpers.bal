@@ -141,6 +141,43 @@ function addToTable(stream<Type, error?> strm, table<map<Type>> tbl, error? err)
     return tbl;
 }
 
+function filterTableByField(table<map<Type>> tbl, string fieldName, anydata value)
+        returns table<map<Type>>|any[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FilterTableByField",
+    name: "filterTableByField"
+} external;
+
+isolated function nextFrame(_StreamFunction streamFunction) returns _Frame|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.NextFrame",
+    name: "nextFrame"
+} external;
+
+isolated function setNativeClause(_StreamFunction streamFunction, _NativeClause clause) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.NextFrame",
+    name: "setNativeClause"
+} external;
+
+function mergeFrames(_Frame frame, map<any|error> other) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.MergeFrames",
+    name: "mergeFrames"
+} external;
+
+function putFrame(_FrameMultiMap frameMultiMap, any key, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "put"
+} external;
+
+function getFrames(_FrameMultiMap frameMultiMap, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "get"
+} external;
+
+function topKFrames(_StreamFunction prevFunc, function (_Frame _frame) orderKeyFunc,
+        function (_Frame _frame) returns int limitFunc) returns _Frame[]|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopKFrames",
+    name: "topKFrames"
+} external;
+
 function consumeStream(stream<Type, error?> strm) returns error? {
     any|error? v = strm.next();
     while (!(v is () || v is error)) {
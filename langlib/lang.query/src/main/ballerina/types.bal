@@ -56,6 +56,17 @@ type _StreamFunction object {
     public function reset();
 };
 
+// Clauses which are executed natively, see `nextFrame`. The values are shared with
+// `org.ballerinalang.langlib.query.QueryStage`.
+const _INPUT_CLAUSE = 1;
+const _LET_CLAUSE = 2;
+const _FILTER_CLAUSE = 3;
+const _SELECT_CLAUSE = 4;
+const _DO_CLAUSE = 5;
+const _LIMIT_CLAUSE = 6;
+
+type _NativeClause _INPUT_CLAUSE|_LET_CLAUSE|_FILTER_CLAUSE|_SELECT_CLAUSE|_DO_CLAUSE|_LIMIT_CLAUSE;
+
 type _Frame record {|
     (any|error|())...;
 |};
@@ -72,11 +83,7 @@ class _StreamPipeline {
     }
 
     public isolated function next() returns _Frame|error? {
-        _StreamFunction sf = self.streamFunction;
-        var res = internal:invokeAsExternal(sf.process);
-        if (res is _Frame|error) {
-            return res;
-        }
+        return nextFrame(self.streamFunction);
     }
 
     public function reset() {
@@ -88,6 +95,10 @@ class _StreamPipeline {
         _StreamFunction existingFunc = self.streamFunction;
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
+        if (streamFunction is _LimitFunction && existingFunc is _OrderByFunction) {
+            // Only the frames within the limit are ordered
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
     }
 
     public function getStream() returns stream <Type, error?> {
@@ -167,6 +178,7 @@ class _InputFunction {
     function init(function (_Frame _frame) returns _Frame|error? inputFunc) {
         self.inputFunc = inputFunc;
         self.prevFunc = ();
+        setNativeClause(self, _INPUT_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
@@ -225,11 +237,7 @@ class _NestedFromFunction {
         if (cf is _Frame && itr is _Iterator) {
             record {|(any|error) value;|}|error? v = itr.next();
             if (v is record {|(any|error) value;|}) {
-                _Frame _frame = {...cf};
-                foreach var [k, val] in v.entries() {
-                    _frame[k] = val;
-                }
-                return _frame;
+                return mergeFrames(cf, v);
             } else if (v is error) {
                 return v;
             } else {
@@ -284,6 +292,7 @@ class _LetFunction {
     function init(function (_Frame _frame) returns _Frame|error? letFunc) {
         self.letFunc = letFunc;
         self.prevFunc = ();
+        setNativeClause(self, _LET_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
@@ -311,6 +320,7 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
 
     function init(
@@ -324,7 +334,7 @@ class _InnerJoinFunction {
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -336,37 +346,31 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
         }
 
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
+        while (lhsFrame is _Frame) {
+            _Frame[]? rhsCandidates = self.rhsCandidates;
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
+            int i = self.rhsCandidateIndex;
+            if (rhsCandidates is _Frame[] && i < rhsCandidates.length()) {
+                self.lhsFrame = lhsFrame;
+                self.rhsCandidateIndex = i + 1;
+                return mergeFrames(lhsFrame, rhsCandidates[i]);
             }
+            // Move to next lhs frame
+            self.rhsCandidates = ();
+            lhsFrame = pf.process();
         }
+        self.lhsFrame = lhsFrame;
         return lhsFrame;
     }
 
@@ -387,6 +391,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
@@ -402,7 +407,7 @@ class _OuterJoinFunction {
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -414,11 +419,10 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -426,34 +430,26 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int i = self.rhsCandidateIndex;
+                if (i + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = i + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+                return mergeFrames(lhsFrame, rhsCandidates[i]);
             } else {
                 // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
                 self.lhsFrame = ();
-                return joinedFrame;
+                return mergeFrames(lhsFrame, nilFrame);
             }
         }
         return lhsFrame;
@@ -481,6 +477,7 @@ class _FilterFunction {
     function init(function (_Frame _frame) returns boolean filterFunc) {
         self.filterFunc = filterFunc;
         self.prevFunc = ();
+        setNativeClause(self, _FILTER_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
@@ -507,6 +504,8 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
+    # Desugared function of the limit clause which follows the order by clause, if any
+    (function (_Frame _frame) returns int)? limitFunc = ();
     stream<_Frame>? orderedStream;
 
     function init(function(_Frame _frame) orderKeyFunc) {
@@ -516,7 +515,17 @@ class _OrderByFunction {
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        (function (_Frame _frame) returns int)? limitFunc = self.limitFunc;
+        if (self.orderedStream is () && limitFunc is function (_Frame _frame) returns int) {
+            _StreamFunction pf = <_StreamFunction> self.prevFunc;
+            // keep only the first frames in the order, instead of ordering all of them.
+            _Frame[]|error? frames = topKFrames(pf, self.orderKeyFunc, limitFunc);
+            if (frames is error) {
+                return frames;
+            }
+            _Frame[] orderedFrames = frames ?: [];
+            self.orderedStream = orderedFrames.toStream();
+        } else if (self.orderedStream is ()) {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
@@ -565,6 +574,7 @@ class _SelectFunction {
     function init(function (_Frame _frame) returns _Frame|error? selectFunc) {
         self.selectFunc = selectFunc;
         self.prevFunc = ();
+        setNativeClause(self, _SELECT_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
@@ -598,6 +608,7 @@ class _DoFunction {
     function init(function (_Frame _frame) doFunc) {
         self.doFunc = doFunc;
         self.prevFunc = ();
+        setNativeClause(self, _DO_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
@@ -627,21 +638,28 @@ class _LimitFunction {
     # Desugared function to limit the number of results
     function (_Frame _frame) returns int limitFunc;
     public int count = 0;
+    int lmt = 0;
 
     function init(function (_Frame _frame) returns int limitFunc) {
         self.limitFunc = limitFunc;
         self.prevFunc = ();
+        setNativeClause(self, _LIMIT_CLAUSE);
     }
 
     public function process() returns _Frame|error? {
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         function (_Frame _frame) returns int limitFunc = self.limitFunc;
+        if (self.count > 0 && self.count >= self.lmt) {
+            // Frames of the previous clause are not consumed once the limit is reached
+            return ();
+        }
         _Frame|error? pFrame = pf.process();
         if (pFrame is _Frame) {
             int lmt = limitFunc(pFrame);
             if (lmt < 1) {
                 panic error("Invalid limit", message = "limit cannot be < 1.");
             }
+            self.lmt = lmt;
             if (self.count < lmt) {
                 self.count += 1;
                 return pFrame;
@@ -663,35 +681,15 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
-
-    function init() {
-        self.m = {};
-    }
-
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    # Frames are indexed by the value of the key, i.e. the frames of `k1` and `k2` are the same if `k1 == k2`
+    function put(any k, _Frame v) {
+        putFrame(self, k, v);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # The returned frames must not be modified
+    function get(any k) returns _Frame[]? {
+        return getFrames(self, k);
     }
-
 }
 
 class IterHelper {
@@ -1,3 +1,5 @@
 module io.ballerina.lang.query {
+    requires io.ballerina.runtime;
+    requires io.ballerina.lang.array;
     exports org.ballerinalang.langlib.query;
-}
\ No newline at end of file
+}
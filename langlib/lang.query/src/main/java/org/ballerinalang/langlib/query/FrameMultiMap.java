@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of the multi-map of lang.query, which indexes the frames of the right hand side of a join by the
+ * value of their join key.
+ * <p>
+ * Keys are compared for value equality, as in {@code lhsKey == rhsKey}, hence the hash code of a key only depends on
+ * its shape. Numeric keys are hashed by their int value, since an int key is equal to a float or a decimal key of
+ * the same value.
+ *
+ * @since Swan Lake
+ */
+public class FrameMultiMap {
+
+    private static final String FRAMES = "FRAMES";
+    // Members of deeply nested keys are not hashed, to avoid recursing into cyclic values
+    private static final int MAX_HASH_DEPTH = 8;
+
+    public static void put(BObject frameMultiMap, Object key, BMap<BString, Object> frame) {
+        Map<JoinKey, BArray> frames = getFrames(frameMultiMap);
+        if (frames == null) {
+            frames = new HashMap<>();
+            frameMultiMap.addNativeData(FRAMES, frames);
+        }
+        BArray values = frames.computeIfAbsent(new JoinKey(key), joinKey ->
+                ValueCreator.createArrayValue(TypeCreator.createArrayType(frame.getType())));
+        values.append(frame);
+    }
+
+    public static BArray get(BObject frameMultiMap, Object key) {
+        Map<JoinKey, BArray> frames = getFrames(frameMultiMap);
+        if (frames == null) {
+            return null;
+        }
+        return frames.get(new JoinKey(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<JoinKey, BArray> getFrames(BObject frameMultiMap) {
+        return (Map<JoinKey, BArray>) frameMultiMap.getNativeData(FRAMES);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // Ints and bytes are equal when their values are equal
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof BString) {
+            return ((BString) value).getValue().hashCode();
+        }
+        if (value instanceof Double) {
+            // An int is equal to a float when it is equal to the float converted to an int
+            return Long.hashCode(((Double) value).longValue());
+        }
+        if (value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (value instanceof BDecimal) {
+            // Decimals are equal regardless of their precision, and integral decimals are equal to ints
+            BigDecimal decimal = ((BDecimal) value).decimalValue();
+            if (decimal.signum() == 0) {
+                return 0;
+            }
+            decimal = decimal.stripTrailingZeros();
+            if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19) {
+                return Long.hashCode(decimal.longValue());
+            }
+            return decimal.hashCode();
+        }
+        if (depth == MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof BMap) {
+            int result = 0;
+            for (Object entry : ((BMap<?, ?>) value).entrySet()) {
+                // The order of the fields does not affect the equality of mappings
+                Map.Entry<?, ?> field = (Map.Entry<?, ?>) entry;
+                result += hash(field.getKey(), depth + 1) ^ hash(field.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            int result = 1;
+            for (int i = 0; i < array.size(); i++) {
+                result = 31 * result + hash(array.get(i), depth + 1);
+            }
+            return result;
+        }
+        // Values of other types are compared only for equality
+        return 0;
+    }
+
+    /**
+     * Key of the multi-map, which wraps a join key.
+     */
+    private static class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = FrameMultiMap.hash(value, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) obj;
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Implementation of lang.query:mergeFrames(_Frame, map&lt;any|error&gt;).
+ * <p>
+ * Creates the frame of a nested from clause or a join, i.e. {@code {...frame, ...other}}, without iterating the
+ * entries of the other frame in Ballerina code.
+ *
+ * @since Swan Lake
+ */
+public class MergeFrames {
+
+    public static BMap<BString, Object> mergeFrames(BMap<BString, Object> frame, BMap<BString, Object> other) {
+        BMap<BString, Object> mergedFrame = ValueCreator.createMapValue(frame.getType());
+        for (Map.Entry<BString, Object> entry : frame.entrySet()) {
+            mergedFrame.put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<BString, Object> entry : other.entrySet()) {
+            mergedFrame.put(entry.getKey(), entry.getValue());
+        }
+        return mergedFrame;
+    }
+}
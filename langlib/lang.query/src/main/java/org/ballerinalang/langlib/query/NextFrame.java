@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+/**
+ * Implementation of lang.query:nextFrame(_StreamFunction) and lang.query:setNativeClause(_StreamFunction, int).
+ * <p>
+ * Returns the next frame of a query pipeline. The clauses of the pipeline are compiled once into native stages,
+ * which are kept with the last clause of the pipeline.
+ *
+ * @since Swan Lake
+ */
+public class NextFrame {
+
+    private static final String QUERY_STAGE = "QUERY_STAGE";
+
+    public static Object nextFrame(BObject streamFunction) {
+        QueryStage stage = (QueryStage) streamFunction.getNativeData(QUERY_STAGE);
+        if (stage == null) {
+            stage = QueryStage.of(streamFunction);
+            streamFunction.addNativeData(QUERY_STAGE, stage);
+        }
+        return stage.process(Scheduler.getStrand());
+    }
+
+    public static void setNativeClause(BObject streamFunction, long clause) {
+        QueryStage.setNativeClause(streamFunction, clause);
+    }
+}
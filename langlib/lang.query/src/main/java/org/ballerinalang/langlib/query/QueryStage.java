@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * A clause of a query pipeline, executed natively. The clauses are described by the {@code _StreamFunction} objects
+ * of lang.query, and a stage invokes the function of its clause directly, instead of going through the
+ * {@code process} method of the previous {@code _StreamFunction} object.
+ * <p>
+ * The clauses which are executed natively are marked by their {@code _StreamFunction} objects when they are created.
+ * Clauses which are not marked, e.g. the input of the query, joins and order by, are the source of the native stages
+ * and are processed by their {@code _StreamFunction} objects.
+ *
+ * @since Swan Lake
+ */
+abstract class QueryStage {
+
+    // Values of the `_NativeClause` constants of lang.query
+    private static final int INPUT_CLAUSE = 1;
+    private static final int LET_CLAUSE = 2;
+    private static final int FILTER_CLAUSE = 3;
+    private static final int SELECT_CLAUSE = 4;
+    private static final int DO_CLAUSE = 5;
+    private static final int LIMIT_CLAUSE = 6;
+
+    private static final String NATIVE_CLAUSE = "NATIVE_CLAUSE";
+    private static final String PROCESS_FUNCTION = "process";
+    private static final BString PREV_FUNC_FIELD = StringUtils.fromString("prevFunc");
+    private static final BString INPUT_FUNC_FIELD = StringUtils.fromString("inputFunc");
+    private static final BString LET_FUNC_FIELD = StringUtils.fromString("letFunc");
+    private static final BString FILTER_FUNC_FIELD = StringUtils.fromString("filterFunc");
+    private static final BString SELECT_FUNC_FIELD = StringUtils.fromString("selectFunc");
+    private static final BString DO_FUNC_FIELD = StringUtils.fromString("doFunc");
+    private static final BString LIMIT_FUNC_FIELD = StringUtils.fromString("limitFunc");
+    private static final BString COUNT_FIELD = StringUtils.fromString("count");
+
+    /**
+     * Returns the next frame of the clause.
+     *
+     * @param strand strand of the query
+     * @return next frame, an error, or nil if there are no more frames
+     */
+    abstract Object process(Strand strand);
+
+    /**
+     * Creates the native stages of the query pipeline which ends with the given clause.
+     *
+     * @param streamFunction {@code _StreamFunction} object of the last clause
+     * @return last stage
+     */
+    static QueryStage of(BObject streamFunction) {
+        Object clause = streamFunction.getNativeData(NATIVE_CLAUSE);
+        if (clause == null) {
+            return new SourceStage(streamFunction);
+        }
+        switch ((Integer) clause) {
+            case INPUT_CLAUSE:
+                return new FrameFunctionStage(prevStage(streamFunction), function(streamFunction, INPUT_FUNC_FIELD));
+            case LET_CLAUSE:
+                return new FrameFunctionStage(prevStage(streamFunction), function(streamFunction, LET_FUNC_FIELD));
+            case SELECT_CLAUSE:
+                return new FrameFunctionStage(prevStage(streamFunction),
+                                              function(streamFunction, SELECT_FUNC_FIELD));
+            case FILTER_CLAUSE:
+                return new FilterStage(prevStage(streamFunction), function(streamFunction, FILTER_FUNC_FIELD));
+            case DO_CLAUSE:
+                return new DoStage(prevStage(streamFunction), function(streamFunction, DO_FUNC_FIELD));
+            case LIMIT_CLAUSE:
+                return new LimitStage(prevStage(streamFunction), streamFunction,
+                                      function(streamFunction, LIMIT_FUNC_FIELD));
+            default:
+                return new SourceStage(streamFunction);
+        }
+    }
+
+    /**
+     * Marks a {@code _StreamFunction} object as a clause which is executed natively.
+     *
+     * @param streamFunction {@code _StreamFunction} object of the clause
+     * @param clause         one of the {@code _NativeClause} constants of lang.query
+     */
+    static void setNativeClause(BObject streamFunction, long clause) {
+        streamFunction.addNativeData(NATIVE_CLAUSE, (int) clause);
+    }
+
+    private static QueryStage prevStage(BObject streamFunction) {
+        return of((BObject) streamFunction.get(PREV_FUNC_FIELD));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BFunctionPointer<Object, Object> function(BObject streamFunction, BString fieldName) {
+        return (BFunctionPointer<Object, Object>) streamFunction.get(fieldName);
+    }
+
+    /**
+     * Evaluates the expression of a limit clause.
+     *
+     * @param strand        strand of the query
+     * @param limitFunction desugared function of the limit clause
+     * @param frame         current frame
+     * @return the limit, which is at least 1
+     */
+    static long evaluateLimit(Strand strand, BFunctionPointer<Object, Object> limitFunction, Object frame) {
+        long limit = (Long) limitFunction.call(new Object[]{strand, frame, true});
+        if (limit < 1) {
+            throw ErrorCreator.createError(StringUtils.fromString("Invalid limit"),
+                                           StringUtils.fromString("limit cannot be < 1."));
+        }
+        return limit;
+    }
+
+    private static boolean isFrame(Object value) {
+        // Frames are mappings, whereas the end of the frames is denoted by nil or an error
+        return value instanceof BMap;
+    }
+
+    /**
+     * Clause processed by its {@code _StreamFunction} object.
+     */
+    private static class SourceStage extends QueryStage {
+
+        private final BObject streamFunction;
+
+        SourceStage(BObject streamFunction) {
+            this.streamFunction = streamFunction;
+        }
+
+        @Override
+        Object process(Strand strand) {
+            return streamFunction.call(strand, PROCESS_FUNCTION);
+        }
+    }
+
+    /**
+     * Input, let and select clauses, whose function maps a frame to the next frame.
+     */
+    private static class FrameFunctionStage extends QueryStage {
+
+        private final QueryStage prevStage;
+        private final BFunctionPointer<Object, Object> frameFunction;
+
+        FrameFunctionStage(QueryStage prevStage, BFunctionPointer<Object, Object> frameFunction) {
+            this.prevStage = prevStage;
+            this.frameFunction = frameFunction;
+        }
+
+        @Override
+        Object process(Strand strand) {
+            Object frame = prevStage.process(strand);
+            if (isFrame(frame)) {
+                return frameFunction.call(new Object[]{strand, frame, true});
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Where clause.
+     */
+    private static class FilterStage extends QueryStage {
+
+        private final QueryStage prevStage;
+        private final BFunctionPointer<Object, Object> filterFunction;
+
+        FilterStage(QueryStage prevStage, BFunctionPointer<Object, Object> filterFunction) {
+            this.prevStage = prevStage;
+            this.filterFunction = filterFunction;
+        }
+
+        @Override
+        Object process(Strand strand) {
+            Object frame = prevStage.process(strand);
+            while (isFrame(frame) && !((Boolean) filterFunction.call(new Object[]{strand, frame, true}))) {
+                frame = prevStage.process(strand);
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Do clause of a query action.
+     */
+    private static class DoStage extends QueryStage {
+
+        private final QueryStage prevStage;
+        private final BFunctionPointer<Object, Object> doFunction;
+
+        DoStage(QueryStage prevStage, BFunctionPointer<Object, Object> doFunction) {
+            this.prevStage = prevStage;
+            this.doFunction = doFunction;
+        }
+
+        @Override
+        Object process(Strand strand) {
+            Object frame = prevStage.process(strand);
+            if (isFrame(frame)) {
+                doFunction.call(new Object[]{strand, frame, true});
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Limit clause. The number of frames emitted is kept in the {@code _LimitFunction} object, so that it is reset
+     * along with the pipeline.
+     */
+    private static class LimitStage extends QueryStage {
+
+        private final QueryStage prevStage;
+        private final BObject streamFunction;
+        private final BFunctionPointer<Object, Object> limitFunction;
+        private long limit;
+
+        LimitStage(QueryStage prevStage, BObject streamFunction, BFunctionPointer<Object, Object> limitFunction) {
+            this.prevStage = prevStage;
+            this.streamFunction = streamFunction;
+            this.limitFunction = limitFunction;
+        }
+
+        @Override
+        Object process(Strand strand) {
+            long count = (Long) streamFunction.get(COUNT_FIELD);
+            if (count > 0 && count >= limit) {
+                // Frames of the previous clause are not consumed once the limit is reached
+                return null;
+            }
+
+            Object frame = prevStage.process(strand);
+            if (!isFrame(frame)) {
+                return frame;
+            }
+
+            limit = evaluateLimit(strand, limitFunction, frame);
+            if (count < limit) {
+                streamFunction.set(COUNT_FIELD, count + 1);
+                return frame;
+            }
+            return null;
+        }
+    }
+}
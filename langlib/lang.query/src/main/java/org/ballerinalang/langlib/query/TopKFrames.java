@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static org.ballerinalang.langlib.array.Sort.codePointCompare;
+
+/**
+ * Implementation of lang.query:topKFrames(_StreamFunction, function, function).
+ * <p>
+ * Used by an order by clause which is followed by a limit clause. Only the first {@code k} frames in the order are
+ * kept while the frames of the previous clause are consumed, in a heap whose head is the last of the kept frames.
+ * Frames are ordered as by lang.array:sort, i.e. nil and NaN keys are last regardless of the direction, and frames
+ * with equal keys are kept in the order they are received.
+ *
+ * @since Swan Lake
+ */
+public class TopKFrames {
+
+    private static final BString ORDER_KEY_FIELD = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION_FIELD = StringUtils.fromString("$orderDirection$");
+
+    @SuppressWarnings("unchecked")
+    public static Object topKFrames(BObject prevFunc, BFunctionPointer<Object, Object> orderKeyFunc,
+                                    BFunctionPointer<Object, Object> limitFunc) {
+        Strand strand = Scheduler.getStrand();
+        QueryStage prevStage = QueryStage.of(prevFunc);
+        Object frame = prevStage.process(strand);
+        if (!(frame instanceof BMap)) {
+            return frame;
+        }
+
+        BMap<BString, Object> firstFrame = (BMap<BString, Object>) frame;
+        // The limit is evaluated only once, on the first frame, since the frames have to be kept before the limit
+        // clause is reached. The limit clause evaluates it again on each frame, but the first k frames in the order
+        // can not be chosen with a limit which varies across the frames.
+        long limit = QueryStage.evaluateLimit(strand, limitFunc, firstFrame);
+
+        orderKeyFunc.call(new Object[]{strand, firstFrame, true});
+        boolean[] ascending = getDirections((BArray) firstFrame.get(ORDER_DIRECTION_FIELD));
+        Comparator<OrderedFrame> order = (f1, f2) -> {
+            int c = compareKeys(f1.keys, f2.keys, ascending);
+            return c != 0 ? c : Long.compare(f1.index, f2.index);
+        };
+        PriorityQueue<OrderedFrame> topK = new PriorityQueue<>(order.reversed());
+        topK.add(new OrderedFrame(firstFrame, 0));
+
+        long index = 1;
+        frame = prevStage.process(strand);
+        while (frame instanceof BMap) {
+            orderKeyFunc.call(new Object[]{strand, frame, true});
+            OrderedFrame orderedFrame = new OrderedFrame((BMap<BString, Object>) frame, index++);
+            if (topK.size() < limit) {
+                topK.add(orderedFrame);
+            } else if (order.compare(orderedFrame, topK.peek()) < 0) {
+                topK.poll();
+                topK.add(orderedFrame);
+            }
+            frame = prevStage.process(strand);
+        }
+        if (frame != null) {
+            return frame;
+        }
+
+        Object[] frames = new Object[topK.size()];
+        for (int i = frames.length - 1; i >= 0; i--) {
+            frames[i] = topK.poll().frame;
+        }
+        return ValueCreator.createArrayValue(frames, TypeCreator.createArrayType(firstFrame.getType()));
+    }
+
+    private static boolean[] getDirections(BArray directions) {
+        boolean[] ascending = new boolean[directions.size()];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = (Boolean) directions.get(i);
+        }
+        return ascending;
+    }
+
+    private static int compareKeys(Object[] keys1, Object[] keys2, boolean[] ascending) {
+        for (int i = 0; i < ascending.length; i++) {
+            Object key1 = keys1[i];
+            Object key2 = keys2[i];
+            // () and NaN should come last irrespective of the direction.
+            int c = Boolean.compare(key1 == null, key2 == null);
+            if (c == 0 && key1 != null) {
+                c = Boolean.compare(isNaN(key1), isNaN(key2));
+                if (c == 0) {
+                    c = compareValues(key1, key2);
+                    c = ascending[i] ? c : -c;
+                }
+            }
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isNaN(Object value) {
+        return value instanceof Double && Double.isNaN((Double) value);
+    }
+
+    private static int compareValues(Object value1, Object value2) {
+        if (value1 instanceof Long || value1 instanceof Integer) {
+            return Long.compare(((Number) value1).longValue(), ((Number) value2).longValue());
+        } else if (value1 instanceof Double) {
+            double double1 = (Double) value1;
+            double double2 = (Double) value2;
+            // -0.0 = +0.0
+            return double1 == double2 ? 0 : Double.compare(double1, double2);
+        } else if (value1 instanceof BDecimal) {
+            return ((BDecimal) value1).decimalValue().compareTo(((BDecimal) value2).decimalValue());
+        } else if (value1 instanceof BString) {
+            return codePointCompare(((BString) value1).getValue(), ((BString) value2).getValue());
+        } else if (value1 instanceof Boolean) {
+            return Boolean.compare((Boolean) value1, (Boolean) value2);
+        }
+        throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                                       StringUtils.fromString("expected an ordered type, but found '" +
+                                                                      TypeUtils.getType(value1) + "'"));
+    }
+
+    /**
+     * Frame along with its order keys and the position in which it was received.
+     */
+    private static class OrderedFrame {
+
+        private final BMap<BString, Object> frame;
+        private final Object[] keys;
+        private final long index;
+
+        OrderedFrame(BMap<BString, Object> frame, long index) {
+            this.frame = frame;
+            this.index = index;
+            BArray orderKeys = (BArray) frame.get(ORDER_KEY_FIELD);
+            this.keys = new Object[orderKeys.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = orderKeys.get(i);
+            }
+        }
+    }
+}
@@ -17,15 +17,11 @@
  */
 package org.ballerinalang.langlib.value;
 
-import io.ballerina.runtime.api.creators.ErrorCreator;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
 
-import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
-
 /**
  * Extern function lang.values:fromJsonWithType.
  * Converts a string in JSON format to a user-specified type.
@@ -41,12 +37,12 @@ public class FromJsonStringWithType {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
             } else {
-                Object jsonFromString = JsonParser.parse(str);
-                return FromJsonWithType.fromJsonWithType(jsonFromString, t);
+                // The string is parsed directly into the target type, instead of converting a parsed json value
+                return JsonParser.parse(str, t.getDescribingType(), new FromJsonWithType.TypedValueFactory(t));
             }
         } catch (BError e) {
-            return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR,
-                                            StringUtils.fromString(e.getMessage()));
+            // Both the parsing and the conversion errors are conversion errors
+            return e;
         }
     }
 }
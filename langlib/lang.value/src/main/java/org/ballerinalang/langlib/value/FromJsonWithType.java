@@ -34,6 +34,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.JsonParser;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.TypeConverter;
 import io.ballerina.runtime.internal.XmlFactory;
@@ -153,13 +154,7 @@ public class FromJsonWithType {
                 return newMap;
             case TypeTags.RECORD_TYPE_TAG:
                 RecordType  recordType = (RecordType) targetType;
-                BMap<BString, Object> newRecord;
-                if (t.getDescribingType() == targetType) {
-                    newRecord = (BMap<BString, Object>) t.instantiate(Scheduler.getStrand());
-                } else {
-                    newRecord = (BMap<BString, Object>) ValueCreator
-                            .createRecordValue(recordType.getPackage(), recordType.getName());
-                }
+                BMap<BString, Object> newRecord = createRecordValue(recordType, t);
 
                 Type restFieldType = recordType.getRestFieldType();
                 Map<String, Type> targetTypeField = new HashMap<>();
@@ -223,12 +218,45 @@ public class FromJsonWithType {
         throw CloneUtils.createConversionError(array, targetType);
     }
 
+    private static BMap<BString, Object> createRecordValue(RecordType recordType, BTypedesc t) {
+        if (t.getDescribingType() == recordType) {
+            return (BMap<BString, Object>) t.instantiate(Scheduler.getStrand());
+        }
+        return ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+    }
+
     private static void putToMap(BMap<BString, Object> map, Map.Entry entry, Type fieldType,
                                  List<TypeValuePair> unresolvedValues, BTypedesc t) {
         Object newValue = convert(entry.getValue(), fieldType, unresolvedValues, t);
         map.put(StringUtils.fromString(entry.getKey().toString()), newValue);
     }
 
+    /**
+     * Creates the values of a target type, which are not built by the JSON parser, using the same conversions as
+     * {@code fromJsonWithType}.
+     */
+    static class TypedValueFactory implements JsonParser.TypedValueFactory {
+        private final BTypedesc t;
+
+        TypedValueFactory(BTypedesc t) {
+            this.t = t;
+        }
+
+        @Override
+        public BMap<BString, Object> createRecordValue(RecordType recordType) {
+            return FromJsonWithType.createRecordValue(recordType, t);
+        }
+
+        @Override
+        public Object convert(Object jsonValue, Type targetType) {
+            try {
+                return FromJsonWithType.convert(jsonValue, targetType, new ArrayList<>(), t);
+            } catch (BallerinaException e) {
+                throw createError(VALUE_LANG_LIB_CONVERSION_ERROR, StringUtils.fromString(e.getDetail()));
+            }
+        }
+    }
+
     private static BError createConversionError(Object inputValue, Type targetType) {
         return createError(VALUE_LANG_LIB_CONVERSION_ERROR,
                            BLangExceptionHelper.getErrorMessage(INCOMPATIBLE_CONVERT_OPERATION,
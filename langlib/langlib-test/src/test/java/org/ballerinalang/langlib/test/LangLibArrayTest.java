@@ -551,4 +551,14 @@ public class LangLibArrayTest {
     public void testSort10() {
         BRunUtil.invoke(compileResult, "testSort10");
     }
+
+    @Test
+    public void testSort11() {
+        BRunUtil.invoke(compileResult, "testSort11");
+    }
+
+    @Test
+    public void testSort12() {
+        BRunUtil.invoke(compileResult, "testSort12");
+    }
 }
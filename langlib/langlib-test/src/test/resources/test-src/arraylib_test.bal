@@ -1061,6 +1061,67 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    int[] arr = [];
+    foreach int i in 0 ..< 10000 {
+        arr.push((i * 7919) % 10007 - 5000);
+    }
+
+    int[] sortedArr = arr.sort();
+    assertValueEquality(sortedArr.length(), 10000);
+    foreach int i in 1 ..< sortedArr.length() {
+        assertTrue(sortedArr[i - 1] <= sortedArr[i]);
+    }
+
+    int[] sortedArr2 = arr.sort(array:DESCENDING);
+    foreach int i in 1 ..< sortedArr2.length() {
+        assertTrue(sortedArr2[i - 1] >= sortedArr2[i]);
+    }
+
+    float[] arr2 = [2.5, (0.0/0.0), -1.0, 10.25, 0.0, -3.75];
+    assertValueEquality(arr2.sort(), [-3.75, -1.0, 0.0, 2.5, 10.25, (0.0/0.0)]);
+    assertValueEquality(arr2.sort(array:DESCENDING), [10.25, 2.5, 0.0, -1.0, -3.75, (0.0/0.0)]);
+
+    string[] arr3 = ["World", "Hello", "\u{1F600}", "\u{E000}", "apple", ""];
+    assertValueEquality(arr3.sort(), ["", "Hello", "World", "apple", "\u{E000}", "\u{1F600}"]);
+    assertValueEquality(arr3.sort(array:DESCENDING), ["\u{1F600}", "\u{E000}", "apple", "World", "Hello", ""]);
+
+    string[] arr4 = ["ccc", "a", "bb", "dddd"];
+    assertValueEquality(arr4.sort(array:DESCENDING, s => s.length()), ["dddd", "ccc", "bb", "a"]);
+    assertValueEquality(arr4.sort(array:ASCENDING, s => <float>s.length() / 2.0), ["a", "bb", "ccc", "dddd"]);
+}
+
+function testSort12() {
+    // Enough students to be sorted in parallel, with many equal keys
+    Student[] studentArr = [];
+    foreach int i in 0 ..< 10000 {
+        int group = (i * 7919) % 10007 % 50;
+        string fname = group < 10 ? "s0" + group.toString() : "s" + group.toString();
+        studentArr.push({id: i, fname: fname, fee: (), impact: <decimal>(group % 7) / 4.0d, isUndergrad: true});
+    }
+
+    Student[] sortedArr = studentArr.sort(array:ASCENDING, s => s.fname);
+    assertValueEquality(sortedArr.length(), 10000);
+    foreach int i in 1 ..< sortedArr.length() {
+        int group1 = groupOf(sortedArr[i - 1]);
+        int group2 = groupOf(sortedArr[i]);
+        // Students with equal keys are kept in their original order
+        assertTrue(group1 < group2 || (group1 == group2 && sortedArr[i - 1].id < sortedArr[i].id));
+    }
+
+    Student[] sortedArr2 = studentArr.sort(array:DESCENDING, s => s.impact);
+    assertValueEquality(sortedArr2.length(), 10000);
+    foreach int i in 1 ..< sortedArr2.length() {
+        decimal impact1 = sortedArr2[i - 1].impact;
+        decimal impact2 = sortedArr2[i].impact;
+        assertTrue(impact1 > impact2 || (impact1 == impact2 && sortedArr2[i - 1].id < sortedArr2[i].id));
+    }
+}
+
+function groupOf(Student s) returns int {
+    return (s.id * 7919) % 10007 % 50;
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
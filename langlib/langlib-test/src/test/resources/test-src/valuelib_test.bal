@@ -936,6 +936,58 @@ function testFromJsonStringWithTypeIntArray() {
     assert(intArr[1], 2);
 }
 
+type Course record {|
+    string title;
+    int credits = 3;
+|};
+
+type Student5 record {
+    string name;
+    Course[] courses;
+    [int, string] grade;
+    map<int|string> info?;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"name\":\"Alex\",\"courses\":[{\"title\":\"Maths\"},{\"title\":\"Arts\",\"credits\":2}]," +
+                "\"grade\":[1,\"A\"],\"info\":{\"age\":20,\"city\":\"Colombo\"},\"year\":2}";
+    Student5|error studentOrError = s.fromJsonStringWithType(Student5);
+
+    assert(studentOrError is Student5, true);
+    Student5 student = <Student5> studentOrError;
+    assert(student.name, "Alex");
+    assert(student.courses.length(), 2);
+    assert(student.courses[0].credits, 3);
+    assert(student.courses[1].title, "Arts");
+    assert(student.courses[1].credits, 2);
+    assert(student.grade[0], 1);
+    assert(student.grade[1], "A");
+    map<int|string> info = <map<int|string>> student?.info;
+    assert(info["age"], 20);
+    assert(info["city"], "Colombo");
+    assert(student["year"], 2);
+}
+
+function testFromJsonStringWithTypeNestedRecordNegative() {
+    // A field which is not defined in a closed record
+    string s1 = "{\"name\":\"Alex\",\"courses\":[{\"title\":\"Maths\",\"room\":1}],\"grade\":[1,\"A\"]}";
+    assert(s1.fromJsonStringWithType(Student5) is error, true);
+
+    // A tuple without all of its members
+    string s2 = "{\"name\":\"Alex\",\"courses\":[],\"grade\":[1]}";
+    assert(s2.fromJsonStringWithType(Student5) is error, true);
+
+    // A record without a required field
+    string s3 = "{\"name\":\"Alex\",\"courses\":[]}";
+    assert(s3.fromJsonStringWithType(Student5) is error, true);
+
+    // A value of an incompatible type
+    string s4 = "{\"name\":\"Alex\",\"courses\":{},\"grade\":[1,\"A\"]}";
+    assert(s4.fromJsonStringWithType(Student5) is error, true);
+    string s5 = "{\"name\":\"Alex\",\"courses\":[],\"grade\":[1,\"A\"],\"info\":{\"age\":true}}";
+    assert(s5.fromJsonStringWithType(Student5) is error, true);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
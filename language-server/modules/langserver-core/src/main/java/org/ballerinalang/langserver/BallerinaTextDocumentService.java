@@ -42,6 +42,8 @@ import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
+import org.ballerinalang.langserver.util.Debouncer;
+import org.ballerinalang.langserver.util.LatencyTracker;
 import org.ballerinalang.langserver.util.TokensUtil;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionParams;
@@ -71,6 +73,8 @@ import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentPositionParams;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.TextDocumentService;
 
@@ -78,8 +82,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -93,11 +101,19 @@ import static org.ballerinalang.langserver.compiler.LSCompilerUtil.getUntitledFi
  */
 class BallerinaTextDocumentService implements TextDocumentService {
     // indicates the frequency to send diagnostics to server upon document did change
+    private static final int DIAGNOSTIC_DELAY = 300;
+    // indicates the number of requests of an operation after which its latencies are traced
+    private static final int LATENCY_REPORT_INTERVAL = 100;
     private final BallerinaLanguageServer languageServer;
     private final DiagnosticsHelper diagnosticsHelper;
     private LSClientCapabilities clientCapabilities;
     private final WorkspaceManager workspaceManager;
-
+    private final Debouncer diagnosticsDebouncer = new Debouncer(DIAGNOSTIC_DELAY);
+    private final LatencyTracker latencyTracker = new LatencyTracker(LATENCY_REPORT_INTERVAL);
+    /**
+     * Holds the in-flight completion request of each document, which is cancelled upon a newer request.
+     */
+    private final Map<String, CompletableFuture<?>> inFlightRequests = new ConcurrentHashMap<>();
 
     BallerinaTextDocumentService(LSGlobalContext globalContext, WorkspaceManager workspaceManager) {
         this.workspaceManager = workspaceManager;
@@ -116,12 +132,15 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        TextDocumentIdentifier textDocument = position.getTextDocument();
+        return computeSupersedableAsync(LSContextOperation.TXT_COMPLETION, textDocument, cancelChecker -> {
+            cancelChecker.checkCanceled();
             String fileUri = position.getTextDocument().getUri();
             CompletionContext context = ContextBuilder.buildCompletionContext(fileUri,
                     this.workspaceManager,
                     this.clientCapabilities.getTextDocCapabilities().getCompletion(),
                     position.getPosition());
+            cancelChecker.checkCanceled();
             try {
                 return LangExtensionDelegator.instance().completion(position, context);
             } catch (CompletionContextNotSupportedException e) {
@@ -138,10 +157,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Hover> hover(TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return computeAsync(LSContextOperation.TXT_HOVER, cancelChecker -> {
+            cancelChecker.checkCanceled();
             String fileUri = position.getTextDocument().getUri();
             HoverContext context = ContextBuilder
                     .buildHoverContext(fileUri, this.workspaceManager, position.getPosition());
+            cancelChecker.checkCanceled();
             Hover hover;
             try {
                 hover = HoverUtil.getHover(context);
@@ -158,7 +179,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return computeAsync(LSContextOperation.TXT_SIGNATURE, cancelChecker -> {
+            cancelChecker.checkCanceled();
             String uri = position.getTextDocument().getUri();
             Optional<Path> sigFilePath = CommonUtil.getPathFromURI(uri);
 
@@ -171,6 +193,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     this.workspaceManager,
                     this.clientCapabilities.getTextDocCapabilities().getSignatureHelp(),
                     position.getPosition());
+            cancelChecker.checkCanceled();
             try {
                 // Find token at cursor position
                 Token cursorToken = TokensUtil.findTokenAtPosition(context, position.getPosition());
@@ -294,7 +317,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return computeAsync(LSContextOperation.TXT_CODE_ACTION, cancelChecker -> {
+            cancelChecker.checkCanceled();
             List<CodeAction> actions = new ArrayList<>();
             TextDocumentIdentifier identifier = params.getTextDocument();
             String fileUri = identifier.getUri();
@@ -328,7 +352,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return computeAsync(LSContextOperation.TXT_CODE_LENS, cancelChecker -> {
+            cancelChecker.checkCanceled();
             List<CodeLens> lenses;
             if (!LSCodeLensesProviderHolder.getInstance().isEnabled()) {
                 // Disabled ballerina codeLens feature
@@ -350,6 +375,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             DocumentServiceContext codeLensContext = ContextBuilder.buildBaseContext(fileUri,
                     this.workspaceManager,
                     LSContextOperation.TXT_CODE_LENS);
+            cancelChecker.checkCanceled();
 
             try {
                 lenses = CodeLensUtil.getCodeLenses(codeLensContext);
@@ -460,7 +486,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             this.workspaceManager.didOpen(context.filePath(), params);
             LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_OPEN.getName() +
                     "' {fileUri: '" + fileUri + "'} opened}");
-            diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            scheduleDiagnostics(context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didOpen' failed!";
             TextDocumentIdentifier identifier = new TextDocumentIdentifier(params.getTextDocument().getUri());
@@ -484,7 +510,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             workspaceManager.didChange(context.filePath(), params);
             LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
                     "' {fileUri: '" + fileUri + "'} updated}");
-            diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            scheduleDiagnostics(context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didChange' failed!";
             logError(msg, e, params.getTextDocument(), (Position) null);
@@ -510,4 +536,87 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public void didSave(DidSaveTextDocumentParams params) {
     }
+
+    /**
+     * Stops publishing diagnostics of the pending changes.
+     */
+    void shutdown() {
+        this.diagnosticsDebouncer.terminate();
+    }
+
+    /**
+     * Schedules compiling and publishing the diagnostics of the project of a document. Diagnostics are published
+     * once the project is not changed for a while, so that a burst of changes is compiled only once.
+     *
+     * @param context document service context
+     */
+    private void scheduleDiagnostics(DocumentServiceContext context) {
+        Path projectRoot = this.workspaceManager.projectRoot(context.filePath());
+        this.diagnosticsDebouncer.call(projectRoot, () -> {
+            try {
+                diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            } catch (Throwable e) {
+                String msg = "Operation '" + LSContextOperation.DIAGNOSTICS.getName() + "' failed!";
+                logError(msg, e, new TextDocumentIdentifier(context.fileUri()), (Position) null);
+            }
+        });
+    }
+
+    /**
+     * Runs a request of an operation asynchronously. The request can be cancelled by the client, in which case its
+     * computation stops at its next cancellation check. The latency of each request, which is not cancelled, is
+     * tracked.
+     * <p>
+     * Requests are served from the compilation of the current version of the project, which is shared by all the
+     * requests of that version, rather than from the last completed compilation. The positions of a request refer
+     * to the current version of the document, hence serving it from the compilation of an older version could give
+     * results for the wrong symbols.
+     *
+     * @param operation operation of the request
+     * @param code      computation of the request
+     * @param <T>       type of the result
+     * @return future result of the request
+     */
+    private <T> CompletableFuture<T> computeAsync(LSContextOperation operation, Function<CancelChecker, T> code) {
+        long startTime = System.nanoTime();
+        CompletableFuture<T> request = CompletableFutures.computeAsync(code);
+        request.whenComplete((result, error) -> {
+            if (!isCancellation(error)) {
+                this.latencyTracker.record(operation, System.nanoTime() - startTime);
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Runs a request of an operation asynchronously, as in {@link #computeAsync(LSContextOperation, Function)}. A
+     * newer request of the same operation on the same document also cancels the in-flight request. This is only
+     * used for completion, whose requests are sent while typing and are superseded by the next keystroke. Other
+     * requests on a document, such as code actions for different ranges, may be in flight at the same time.
+     *
+     * @param operation    operation of the request
+     * @param textDocument document of the request
+     * @param code         computation of the request
+     * @param <T>          type of the result
+     * @return future result of the request
+     */
+    private <T> CompletableFuture<T> computeSupersedableAsync(LSContextOperation operation,
+                                                              TextDocumentIdentifier textDocument,
+                                                              Function<CancelChecker, T> code) {
+        String requestKey = operation.getName() + ":" + textDocument.getUri();
+        CompletableFuture<T> request = computeAsync(operation, code);
+        CompletableFuture<?> supersededRequest = this.inFlightRequests.put(requestKey, request);
+        if (supersededRequest != null) {
+            supersededRequest.cancel(false);
+        }
+        request.whenComplete((result, error) -> this.inFlightRequests.remove(requestKey, request));
+        return request;
+    }
+
+    private static boolean isCancellation(Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+        return error instanceof CancellationException;
+    }
 }
@@ -77,6 +77,12 @@ public class DiagnosticsHelper {
             return;
         }
 
+        // If a change has superseded the compiled project instance, returns. Diagnostics of the latest project
+        // instance are published upon that change
+        if (context.workspace().project(context.filePath()).orElse(null) != project.get()) {
+            return;
+        }
+
         // Replace old entries with an empty list
         lastDiagnosticMap.keySet().forEach((key) -> diagnosticMap.computeIfAbsent(key, value -> EMPTY_DIAGNOSTIC_LIST));
 
@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -37,15 +38,20 @@ public class Debouncer {
     }
 
     public void call(Path path, Runnable runnable) {
-        final Future<?> prev = delayedMap.put(path, sched.schedule(() -> {
+        FutureTask<Void> task = new FutureTask<>(runnable, null);
+        final Future<?> prev = delayedMap.put(path, task);
+        sched.schedule(() -> {
             try {
-                runnable.run();
+                task.run();
             } finally {
-                delayedMap.remove(path);
+                // A newer call for the same path might already have replaced this task
+                delayedMap.remove(path, task);
             }
-        }, interval, TimeUnit.MILLISECONDS));
+        }, interval, TimeUnit.MILLISECONDS);
         if (prev != null) {
-            prev.cancel(true);
+            // A task which has already started is let to complete, since interrupting a compilation midway could
+            // leave the shared compiler state inconsistent
+            prev.cancel(false);
         }
     }
 
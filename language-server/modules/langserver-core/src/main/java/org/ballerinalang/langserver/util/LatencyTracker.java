@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.util;
+
+import org.ballerinalang.langserver.commons.LSOperation;
+import org.ballerinalang.langserver.compiler.LSClientLogger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the latencies of lang-server operations over a window of the most recent requests and periodically traces
+ * the p50 and p99 latencies of each operation.
+ *
+ * @since 2.0.0
+ */
+public class LatencyTracker {
+    private static final int WINDOW_SIZE = 512;
+
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+    private final int reportInterval;
+
+    public LatencyTracker(int reportInterval) {
+        this.reportInterval = reportInterval;
+    }
+
+    /**
+     * Records the latency of a completed request of an operation.
+     *
+     * @param operation    lang-server operation
+     * @param latencyNanos latency of the request in nanoseconds
+     */
+    public void record(LSOperation operation, long latencyNanos) {
+        LatencyWindow window = latencyWindows.computeIfAbsent(operation.getName(), name -> new LatencyWindow());
+        if (window.add(latencyNanos) % reportInterval == 0) {
+            long[] latencies = window.snapshot();
+            LSClientLogger.logTrace("Operation '" + operation.getName() + "' {p50: " +
+                                            toMillis(percentile(latencies, 50)) + "ms, p99: " +
+                                            toMillis(percentile(latencies, 99)) + "ms, requests: " +
+                                            latencies.length + "}");
+        }
+    }
+
+    /**
+     * Returns the given percentile of the latencies of the recent requests of an operation.
+     *
+     * @param operation  lang-server operation
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds, or -1 if no request of the operation is recorded
+     */
+    public long percentile(LSOperation operation, int percentile) {
+        LatencyWindow window = latencyWindows.get(operation.getName());
+        return window == null ? -1 : percentile(window.snapshot(), percentile);
+    }
+
+    private static long percentile(long[] sortedLatencies, int percentile) {
+        if (sortedLatencies.length == 0) {
+            return -1;
+        }
+        // Nearest-rank percentile
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Ring buffer of the latencies of the most recent requests.
+     */
+    private static class LatencyWindow {
+        private final long[] latencies = new long[WINDOW_SIZE];
+        private long count;
+
+        synchronized long add(long latencyNanos) {
+            latencies[(int) (count % WINDOW_SIZE)] = latencyNanos;
+            return ++count;
+        }
+
+        synchronized long[] snapshot() {
+            long[] sortedLatencies = Arrays.copyOf(latencies, (int) Math.min(count, WINDOW_SIZE));
+            Arrays.sort(sortedLatencies);
+            return sortedLatencies;
+        }
+    }
+}
@@ -33,6 +33,12 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSContextOperation;
@@ -43,13 +49,20 @@ import org.ballerinalang.langserver.compiler.LSClientLogger;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -168,19 +181,18 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (projectPair.isEmpty()) {
             return Optional.empty();
         }
-        Optional<Document> document = document(filePath, projectPair.get().project());
-        if (document.isEmpty()) {
-            return Optional.empty();
-        }
-        // Get Module
-        Module module = document.get().module();
-        // Lock Project Instance
-        projectPair.get().locker().lock();
-        try {
-            return Optional.of(module.getCompilation());
-        } finally {
-            // Unlock Project Instance
-            projectPair.get().locker().unlock();
+        while (true) {
+            Optional<Document> document = document(filePath, projectPair.get().project());
+            if (document.isEmpty()) {
+                return Optional.empty();
+            }
+            // Get Module
+            Module module = document.get().module();
+            Optional<ModuleCompilation> compilation = waitAndGetModuleCompilation(projectPair.get(), module);
+            if (compilation.isPresent()) {
+                return compilation;
+            }
+            // The project was changed while waiting, hence the latest version of the module is compiled
         }
     }
 
@@ -201,14 +213,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (projectPair.isEmpty()) {
             return Optional.empty();
         }
-        // Lock Project Instance
-        projectPair.get().locker().lock();
-        try {
-            return Optional.of(module.getCompilation());
-        } finally {
-            // Unlock Project Instance
-            projectPair.get().locker().unlock();
-        }
+        return waitAndGetModuleCompilation(projectPair.get(), module);
     }
 
     /**
@@ -268,11 +273,15 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             }
 
             // Update file
-            String content = params.getContentChanges().get(0).getText();
-            Document updatedDoc = document.get().modify().withContent(content).apply();
+            long startTime = System.nanoTime();
+            Document updatedDoc = applyContentChanges(document.get(), params.getContentChanges());
 
             // Update project instance
             projectPair.get().setProject(updatedDoc.module().project());
+            LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
+                                            "' {fileUri: '" + filePath.toUri() + "', changes: " +
+                                            params.getContentChanges().size() + "} applied in " +
+                                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms");
         } finally {
             // Unlock Project Instance
             projectPair.get().locker().unlock();
@@ -306,6 +315,90 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
     // ============================================================================================================== //
 
+    /**
+     * Returns the compilation of a module of the current project instance. A module is compiled only once per
+     * project instance: the first request compiles it while holding the project lock and the concurrent requests
+     * wait for its result, whereas the later requests are served from the completed compilation without locking.
+     *
+     * @param projectPair project pair of the module
+     * @param module      module to compile
+     * @return module compilation, or empty if the project instance of the module is superseded by a change
+     */
+    private Optional<ModuleCompilation> waitAndGetModuleCompilation(ProjectPair projectPair, Module module) {
+        CompletableFuture<ModuleCompilation> newCompilation = new CompletableFuture<>();
+        CompletableFuture<ModuleCompilation> compilation = projectPair.compilation(module, newCompilation);
+        if (compilation == newCompilation) {
+            // Lock Project Instance
+            projectPair.locker().lock();
+            try {
+                // Skip compiling, if a change has superseded the project instance while waiting for the lock
+                if (!compilation.isCancelled()) {
+                    compilation.complete(module.getCompilation());
+                }
+            } catch (Throwable e) {
+                compilation.completeExceptionally(e);
+            } finally {
+                // Unlock Project Instance
+                projectPair.locker().unlock();
+            }
+        }
+
+        try {
+            return Optional.of(compilation.join());
+        } catch (CancellationException e) {
+            return Optional.empty();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the content changes of a document change notification in the order they are received. A range
+     * change is applied as a text edit, so that the syntax tree is reparsed incrementally, whereas a change
+     * without a range replaces the whole content.
+     *
+     * @param document document to change
+     * @param changes  content changes
+     * @return changed document
+     * @throws WorkspaceDocumentException when a change range is not within the document
+     */
+    private Document applyContentChanges(Document document, List<TextDocumentContentChangeEvent> changes)
+            throws WorkspaceDocumentException {
+        Document.Modifier modifier = document.modify();
+        TextDocument textDocument = document.textDocument();
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                modifier.withContent(change.getText());
+                textDocument = TextDocuments.from(change.getText());
+                continue;
+            }
+
+            int startOffset;
+            int endOffset;
+            try {
+                startOffset = textDocument.textPositionFrom(toLinePosition(range.getStart()));
+                endOffset = textDocument.textPositionFrom(toLinePosition(range.getEnd()));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new WorkspaceDocumentException("Invalid change range " + range + " for the document: " +
+                                                             document.name(), e);
+            }
+            TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset),
+                                              change.getText());
+            TextDocumentChange textDocumentChange = TextDocumentChange.from(new TextEdit[]{textEdit});
+            modifier.withChange(textDocumentChange);
+            textDocument = textDocument.apply(textDocumentChange);
+        }
+        return modifier.apply();
+    }
+
+    private static LinePosition toLinePosition(Position position) {
+        return LinePosition.from(position.getLine(), position.getCharacter());
+    }
+
     private Path computeProjectRoot(Path path) {
         return computeProjectKindAndProjectRoot(path).getRight();
     }
@@ -434,12 +527,13 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     }
 
     /**
-     * This class holds project and its lock.
+     * This class holds project, its lock and the module compilations of the project instance.
      */
     public static class ProjectPair {
 
         private final Lock lock;
-        private Project project;
+        private final Map<ModuleId, CompletableFuture<ModuleCompilation>> compilations = new HashMap<>();
+        private volatile Project project;
 
         private ProjectPair(Project project, Lock lock) {
             this.project = project;
@@ -473,12 +567,34 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
 
         /**
-         * Set workspace document.
+         * Set workspace document. Compilations of the previous project instance, which are not completed yet, are
+         * cancelled.
          *
          * @param project {@link Project}
          */
-        public void setProject(Project project) {
+        public synchronized void setProject(Project project) {
             this.project = project;
+            // Note: A compilation which has already started cannot be interrupted, its result is discarded instead
+            this.compilations.values().forEach(compilation -> compilation.cancel(false));
+            this.compilations.clear();
+        }
+
+        /**
+         * Returns the compilation of a module of the current project instance, or the given compilation if the
+         * module is not compiled yet, in which case the caller is expected to complete it.
+         *
+         * @param module         module
+         * @param newCompilation compilation to use, if the module is not compiled yet
+         * @return module compilation, which is cancelled if the project instance of the module is superseded
+         */
+        synchronized CompletableFuture<ModuleCompilation> compilation(Module module,
+                                                                      CompletableFuture<ModuleCompilation>
+                                                                              newCompilation) {
+            if (module.project() != this.project) {
+                newCompilation.cancel(false);
+                return newCompilation;
+            }
+            return this.compilations.computeIfAbsent(module.moduleId(), moduleId -> newCompilation);
         }
     }
 }
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.util;
+
+import org.ballerinalang.langserver.LSContextOperation;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link LatencyTracker} class.
+ *
+ * @since 2.0.0
+ */
+public class LatencyTrackerTest {
+
+    @Test
+    public void testPercentiles() {
+        LatencyTracker latencyTracker = new LatencyTracker(10);
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_HOVER, 50), -1);
+
+        // Recorded out of order, so that the percentiles are taken from the sorted latencies
+        for (int i = 100; i > 0; i--) {
+            latencyTracker.record(LSContextOperation.TXT_HOVER, millis(i));
+        }
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_HOVER, 0), millis(1));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_HOVER, 50), millis(50));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_HOVER, 99), millis(99));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_HOVER, 100), millis(100));
+
+        // Latencies are tracked per operation
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_COMPLETION, 50), -1);
+        latencyTracker.record(LSContextOperation.TXT_COMPLETION, millis(7));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_COMPLETION, 50), millis(7));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_COMPLETION, 99), millis(7));
+    }
+
+    @Test
+    public void testWindowOfRecentRequests() {
+        LatencyTracker latencyTracker = new LatencyTracker(100);
+        for (int i = 0; i < 100; i++) {
+            latencyTracker.record(LSContextOperation.TXT_CODE_ACTION, millis(1000));
+        }
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_CODE_ACTION, 50), millis(1000));
+
+        // The older latencies are dropped once the window is full
+        for (int i = 0; i < 512; i++) {
+            latencyTracker.record(LSContextOperation.TXT_CODE_ACTION, millis(2));
+        }
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_CODE_ACTION, 100), millis(2));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_CODE_ACTION, 50), millis(2));
+    }
+
+    @Test
+    public void testConcurrentRecords() throws Exception {
+        LatencyTracker latencyTracker = new LatencyTracker(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= 1000; i++) {
+                        latencyTracker.record(LSContextOperation.TXT_SIGNATURE, millis(i % 10 + 1));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_SIGNATURE, 0), millis(1));
+        Assert.assertEquals(latencyTracker.percentile(LSContextOperation.TXT_SIGNATURE, 100), millis(10));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
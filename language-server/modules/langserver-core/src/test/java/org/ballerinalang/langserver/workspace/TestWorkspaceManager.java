@@ -18,9 +18,13 @@
 package org.ballerinalang.langserver.workspace;
 
 import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleCompilation;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -79,6 +83,52 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
     }
 
+    @Test(dataProvider = "workspace-data-provider", dependsOnMethods = "testUpdateDocument")
+    public void testIncrementalUpdateDocument(Path filePath) throws WorkspaceDocumentException {
+        // Inputs from lang server. Ranges of a change are relative to the content after the previous change
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 9), new Position(0, 12)), 3, "bar"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 0), new Position(1, 0)), 0, "    int i = 0;\n"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(),
+                            "function bar() {\n    int i = 0;\n}");
+        Assert.assertEquals(document.get().syntaxTree().toSourceCode(), "function bar() {\n    int i = 0;\n}");
+    }
+
+    @Test(dataProvider = "workspace-data-provider", dependsOnMethods = "testIncrementalUpdateDocument")
+    public void testModuleCompilationSnapshot(Path filePath) throws WorkspaceDocumentException {
+        // A compilation of the current project instance is reused
+        Optional<ModuleCompilation> compilation = workspaceManager.waitAndGetModuleCompilation(filePath);
+        Assert.assertTrue(compilation.isPresent());
+        Assert.assertSame(workspaceManager.waitAndGetModuleCompilation(filePath).get(), compilation.get());
+        Module module = workspaceManager.module(filePath).get();
+        Assert.assertSame(workspaceManager.waitAndGetModuleCompilation(module).get(), compilation.get());
+
+        // Inputs from lang server
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 3);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(dummyContent));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        // A change supersedes the compilation
+        Optional<ModuleCompilation> newCompilation = workspaceManager.waitAndGetModuleCompilation(filePath);
+        Assert.assertTrue(newCompilation.isPresent());
+        Assert.assertNotSame(newCompilation.get(), compilation.get());
+        Assert.assertTrue(workspaceManager.waitAndGetModuleCompilation(module).isEmpty());
+    }
+
     @DataProvider(name = "workspace-data-provider")
     public Object[] dataProvider() {
         return new Path[]{
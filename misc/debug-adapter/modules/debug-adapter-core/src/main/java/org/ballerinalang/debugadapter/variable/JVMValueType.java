@@ -33,6 +33,7 @@ public enum JVMValueType {
     J_OBJECT("java.lang.Object"),
     BMPSTRING("io.ballerina.runtime.internal.values.BmpStringValue"),
     NONBMPSTRING("io.ballerina.runtime.internal.values.NonBmpStringValue"),
+    ROPESTRING("io.ballerina.runtime.internal.values.RopeStringValue"),
     DECIMAL("io.ballerina.runtime.internal.values.DecimalValue"),
     OBJECT_VALUE("io.ballerina.runtime.internal.values.ObjectValue"),
     ARRAY_VALUE("io.ballerina.runtime.internal.values.ArrayValue"),
@@ -22,7 +22,9 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,9 @@ public class VariableUtils {
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
     public static final String FIELD_CONSTRAINT = "constraint";
+    public static final String FIELD_ROPE_LEFT = "left";
+    public static final String FIELD_ROPE_RIGHT = "right";
+    public static final String FIELD_ROPE_FLATTENED = "flattened";
     public static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
     // Used to trim redundant beginning and ending double quotes from a string, if presents.
@@ -71,6 +76,9 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPESTRING.getString())) {
+                return getStringFromRope(stringRef);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMPSTRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NONBMPSTRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -86,6 +94,41 @@ public class VariableUtils {
         }
     }
 
+    /**
+     * Returns the actual string value of a ballerina rope string, by reading the flattened string if the rope is
+     * already flattened, or else by concatenating its parts. The parts are read instead of invoking "getValue()", so
+     * that the rope is not flattened in the debuggee.
+     *
+     * @param ropeRef JDI object reference of the rope string instance
+     * @return actual string.
+     */
+    private static String getStringFromRope(ObjectReference ropeRef) throws DebugVariableException {
+        StringBuilder sb = new StringBuilder();
+        Deque<Value> parts = new ArrayDeque<>();
+        parts.push(ropeRef);
+        while (!parts.isEmpty()) {
+            Value part = parts.pop();
+            if (!(part instanceof ObjectReference)
+                    || !part.type().name().equals(JVMValueType.ROPESTRING.getString())) {
+                sb.append(getStringFrom(part));
+                continue;
+            }
+            Optional<Value> flattened = getFieldValue(part, FIELD_ROPE_FLATTENED);
+            if (flattened.isPresent()) {
+                parts.push(flattened.get());
+                continue;
+            }
+            Optional<Value> left = getFieldValue(part, FIELD_ROPE_LEFT);
+            Optional<Value> right = getFieldValue(part, FIELD_ROPE_RIGHT);
+            if (!left.isPresent() || !right.isPresent()) {
+                return UNKNOWN_VALUE;
+            }
+            parts.push(right.get());
+            parts.push(left.get());
+        }
+        return sb.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JdkVersion;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test the reuse of the BIR and jars of unchanged modules in incremental builds.
+ *
+ * @since 2.0.0
+ */
+public class TestIncrementalBuild {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private static final FileTime EPOCH = FileTime.fromMillis(0);
+
+    @Test(description = "tests that only the BIR and jar of a changed module are regenerated")
+    public void testRegenerateChangedModule() throws IOException {
+        Path projectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve("incremental_build"));
+        build(projectPath);
+        Map<String, Path> cachedFiles = markCachedFiles(projectPath);
+        Assert.assertEquals(cachedFiles.keySet(), Set.of(
+                "myproject.bir", "myproject.jar", "myproject.key",
+                "myproject.services.bir", "myproject.services.jar", "myproject.services.key",
+                "myproject.storage.bir", "myproject.storage.jar", "myproject.storage.key",
+                "myproject.utils.bir", "myproject.utils.jar", "myproject.utils.key"));
+
+        Files.writeString(projectPath.resolve("modules/utils/utils.bal"),
+                "public function initUtils() {\n    int a = 6;\n}\n");
+        build(projectPath);
+
+        Assert.assertEquals(regeneratedFiles(projectPath),
+                Set.of("myproject.utils.bir", "myproject.utils.jar", "myproject.utils.key"));
+    }
+
+    @Test(description = "tests that the modules importing a changed module are regenerated")
+    public void testRegenerateDependentModules() throws IOException {
+        Path projectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve("incremental_build"));
+        build(projectPath);
+        markCachedFiles(projectPath);
+
+        Files.writeString(projectPath.resolve("modules/storage/db.bal"),
+                "public function initDatabase() {\n    int k = 11;\n}\n");
+        build(projectPath);
+
+        Assert.assertEquals(regeneratedFiles(projectPath), Set.of(
+                "myproject.bir", "myproject.jar", "myproject.key",
+                "myproject.services.bir", "myproject.services.jar", "myproject.services.key",
+                "myproject.storage.bir", "myproject.storage.jar", "myproject.storage.key"));
+    }
+
+    @Test(description = "tests that a BIR which cannot be cached does not fail the build")
+    public void testUnwritableCacheEntry() throws IOException {
+        Path projectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve("incremental_build"));
+        build(projectPath);
+        Map<String, Path> cachedFiles = markCachedFiles(projectPath);
+
+        // A directory in place of the BIR file fails the write of the BIR
+        Path birFilePath = cachedFiles.get("myproject.utils.bir");
+        Files.delete(birFilePath);
+        Files.createDirectories(birFilePath.resolve("blocked"));
+        Files.writeString(projectPath.resolve("modules/utils/utils.bal"),
+                "public function initUtils() {\n    int a = 6;\n}\n");
+        build(projectPath);
+        Assert.assertFalse(Files.exists(cachedFiles.get("myproject.utils.key")));
+
+        // The module is compiled again once the BIR can be cached
+        TestUtils.deleteDirectory(birFilePath.toFile());
+        markCachedFiles(projectPath);
+        build(projectPath);
+        Assert.assertEquals(regeneratedFiles(projectPath),
+                Set.of("myproject.utils.bir", "myproject.utils.jar", "myproject.utils.key"));
+    }
+
+    private static void build(Path projectPath) {
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JdkVersion.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+    }
+
+    /**
+     * Sets the modification time of the cached BIR, jar and cache key files to the epoch, so that the files written
+     * by a later build can be told apart.
+     */
+    private static Map<String, Path> markCachedFiles(Path projectPath) throws IOException {
+        Map<String, Path> cachedFiles = cachedFiles(projectPath);
+        for (Path path : cachedFiles.values()) {
+            Files.setLastModifiedTime(path, EPOCH);
+        }
+        return cachedFiles;
+    }
+
+    private static Set<String> regeneratedFiles(Path projectPath) throws IOException {
+        Set<String> regeneratedFiles = new HashSet<>();
+        for (Map.Entry<String, Path> cachedFile : cachedFiles(projectPath).entrySet()) {
+            if (!Files.getLastModifiedTime(cachedFile.getValue()).equals(EPOCH)) {
+                regeneratedFiles.add(cachedFile.getKey());
+            }
+        }
+        return regeneratedFiles;
+    }
+
+    private static Map<String, Path> cachedFiles(Path projectPath) throws IOException {
+        try (Stream<Path> paths = Files.find(projectPath.resolve("target").resolve("cache"), 100,
+                (path, fileAttributes) -> fileAttributes.isRegularFile() &&
+                        (path.getFileName().toString().endsWith(".bir") ||
+                                path.getFileName().toString().endsWith(".jar") ||
+                                path.getFileName().toString().endsWith(".key")))) {
+            return paths.collect(Collectors.toMap(path -> path.getFileName().toString(), Function.identity()));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JdkVersion;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Contains cases to test that the parallel code generation of modules gives the same output as the sequential one.
+ *
+ * @since 2.0.0
+ */
+public class TestParallelCodeGen {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+
+    @DataProvider(name = "projects")
+    public Object[][] projects() {
+        return new Object[][]{
+                {"incremental_build", false},
+                {"parallel_codegen", true}
+        };
+    }
+
+    @Test(description = "tests that the parallel code generation gives the same jars and diagnostics",
+            dataProvider = "projects")
+    public void testParallelCodeGen(String projectName, boolean hasDiagnostics) throws IOException {
+        Path sequentialProjectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve(projectName));
+        Path parallelProjectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve(projectName));
+
+        List<String> sequentialDiagnostics = build(sequentialProjectPath, false);
+        List<String> parallelDiagnostics = build(parallelProjectPath, true);
+        Assert.assertEquals(parallelDiagnostics, sequentialDiagnostics);
+        Assert.assertEquals(!sequentialDiagnostics.isEmpty(), hasDiagnostics);
+
+        TestUtils.assertJarsEqual(TestUtils.readGeneratedJars(parallelProjectPath),
+                TestUtils.readGeneratedJars(sequentialProjectPath));
+    }
+
+    private static List<String> build(Path projectPath, boolean parallelCodeGen) {
+        BuildOptions buildOptions = new BuildOptionsBuilder().parallelCodeGen(parallelCodeGen).skipTests(true).build();
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JdkVersion.JAVA_11);
+        return TestUtils.toStrings(jBallerinaBackend.diagnosticResult().diagnostics());
+    }
+}
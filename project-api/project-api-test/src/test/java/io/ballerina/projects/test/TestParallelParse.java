@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JdkVersion;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contains cases to test that the documents of a module, which are parsed in parallel, are compiled in the same order
+ * in every compilation.
+ *
+ * @since 2.0.0
+ */
+public class TestParallelParse {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private static final int COMPILATION_COUNT = 5;
+
+    @Test(description = "tests that repeated compilations of multi-document modules give the same output")
+    public void testDeterministicCompilation() throws IOException {
+        Path projectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve("parallel_parse"));
+        List<String> expectedDiagnostics = compile(projectPath);
+        Map<String, Map<String, byte[]>> expectedJars = TestUtils.readGeneratedJars(projectPath);
+
+        // Diagnostics of every document of both modules, which include syntax errors and warnings
+        for (String fileName : List.of("doc_one.bal", "doc_six.bal", "errors_one.bal", "errors_two.bal",
+                "errors_three.bal")) {
+            Assert.assertTrue(expectedDiagnostics.stream().anyMatch(d -> d.contains("[" + fileName + ":")),
+                    "no diagnostics for " + fileName + " in " + expectedDiagnostics);
+        }
+        // The anonymous types and functions of the documents are generated into the jar of the default module
+        Assert.assertTrue(expectedJars.containsKey("parseproject.jar"));
+
+        for (int i = 0; i < COMPILATION_COUNT; i++) {
+            projectPath = TestUtils.copyProject(RESOURCE_DIRECTORY.resolve("parallel_parse"));
+            Assert.assertEquals(compile(projectPath), expectedDiagnostics);
+            TestUtils.assertJarsEqual(TestUtils.readGeneratedJars(projectPath), expectedJars);
+        }
+    }
+
+    private static List<String> compile(Path projectPath) {
+        BuildOptions buildOptions = new BuildOptionsBuilder().skipTests(true).build();
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        List<String> diagnostics = TestUtils.toStrings(compilation.diagnosticResult().diagnostics());
+        JBallerinaBackend.from(compilation, JdkVersion.JAVA_11);
+        return diagnostics;
+    }
+}
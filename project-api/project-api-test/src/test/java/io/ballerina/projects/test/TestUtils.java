@@ -18,16 +18,32 @@
 
 package io.ballerina.projects.test;
 
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import org.testng.Assert;
+
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
- * Contains utils to test the balo writer.
+ * Contains utils to test the project API.
  *
  * @since 2.0.0
  */
@@ -83,4 +99,76 @@ public class TestUtils {
             throw new RuntimeException("cannot delete file:" + file.toPath(), e);
         }
     }
+
+    /**
+     * Copies the given project to a temporary directory, so that the build output of the project is not written to
+     * the test resources.
+     */
+    static Path copyProject(Path sourcePath) throws IOException {
+        Path projectPath = Files.createTempDirectory("project-copy" + System.nanoTime())
+                .resolve(sourcePath.getFileName().toString());
+        try (Stream<Path> paths = Files.walk(sourcePath)) {
+            List<Path> sortedPaths = paths.collect(Collectors.toList());
+            for (Path path : sortedPaths) {
+                Files.copy(path, projectPath.resolve(sourcePath.relativize(path).toString()));
+            }
+        }
+        return projectPath;
+    }
+
+    /**
+     * Reads the entries of the jars generated for the given project. The entries are compared rather than the jars,
+     * since the jars also record the time at which they were written.
+     */
+    static Map<String, Map<String, byte[]>> readGeneratedJars(Path projectPath) throws IOException {
+        Map<String, Map<String, byte[]>> jars = new TreeMap<>();
+        Path cacheDirPath = projectPath.resolve("target").resolve("cache");
+        if (!Files.exists(cacheDirPath)) {
+            return jars;
+        }
+
+        List<Path> jarPaths;
+        try (Stream<Path> paths = Files.find(cacheDirPath, 100,
+                (path, fileAttributes) -> fileAttributes.isRegularFile() &&
+                        path.getFileName().toString().endsWith(".jar"))) {
+            jarPaths = paths.collect(Collectors.toList());
+        }
+        for (Path jarPath : jarPaths) {
+            Map<String, byte[]> entries = new TreeMap<>();
+            try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+                Enumeration<JarEntry> jarEntries = jarFile.entries();
+                while (jarEntries.hasMoreElements()) {
+                    JarEntry jarEntry = jarEntries.nextElement();
+                    try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
+                        entries.put(jarEntry.getName(), inputStream.readAllBytes());
+                    }
+                }
+            }
+            jars.put(jarPath.getFileName().toString(), entries);
+        }
+        return jars;
+    }
+
+    static void assertJarsEqual(Map<String, Map<String, byte[]>> actualJars,
+                                Map<String, Map<String, byte[]>> expectedJars) {
+        Assert.assertEquals(actualJars.keySet(), expectedJars.keySet());
+        for (Map.Entry<String, Map<String, byte[]>> expectedJar : expectedJars.entrySet()) {
+            Map<String, byte[]> actualJar = actualJars.get(expectedJar.getKey());
+            Assert.assertEquals(actualJar.keySet(), expectedJar.getValue().keySet());
+            for (Map.Entry<String, byte[]> entry : expectedJar.getValue().entrySet()) {
+                Assert.assertEquals(actualJar.get(entry.getKey()), entry.getValue(),
+                        "entry " + entry.getKey() + " of " + expectedJar.getKey() + " differs");
+            }
+        }
+    }
+
+    static List<String> toStrings(Collection<Diagnostic> diagnostics) {
+        List<String> diagnosticStrings = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            LineRange lineRange = diagnostic.location().lineRange();
+            diagnosticStrings.add(diagnostic.diagnosticInfo().severity() + " [" + lineRange.filePath() + ":" +
+                    lineRange + "] " + diagnostic.message());
+        }
+        return diagnosticStrings;
+    }
 }
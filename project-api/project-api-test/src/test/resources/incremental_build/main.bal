@@ -0,0 +1,5 @@
+import myproject.services;
+
+public function main() {
+    services:runServices();
+}
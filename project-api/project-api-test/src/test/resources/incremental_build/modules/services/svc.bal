@@ -0,0 +1,5 @@
+import myproject.storage;
+
+public function runServices() {
+    storage:initDatabase();
+}
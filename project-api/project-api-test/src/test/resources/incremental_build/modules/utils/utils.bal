@@ -0,0 +1,3 @@
+public function initUtils() {
+    int a = 5;
+}
@@ -0,0 +1,8 @@
+import parallelproject.bar;
+import parallelproject.foo;
+
+public function main() {
+    foo:initFoo();
+    _ = foo:getUUID();
+    _ = bar:getTime();
+}
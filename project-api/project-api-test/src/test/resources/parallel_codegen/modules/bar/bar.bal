@@ -0,0 +1,12 @@
+import ballerina/java;
+import parallelproject.foo;
+
+public function getTime() returns int {
+    foo:initFoo();
+    return nanoTime();
+}
+
+function nanoTime() returns int = @java:Method {
+    name: "nanoTim",
+    'class: "java.lang.System"
+} external;
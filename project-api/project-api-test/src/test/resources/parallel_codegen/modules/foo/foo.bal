@@ -0,0 +1,11 @@
+import ballerina/java;
+
+# This function is deprecated
+@deprecated
+public function initFoo() {
+}
+
+public function getUUID() returns handle = @java:Method {
+    name: "randomUUI",
+    'class: "java.util.UUID"
+} external;
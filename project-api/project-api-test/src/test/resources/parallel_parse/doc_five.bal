@@ -0,0 +1,11 @@
+function docFive() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 5, name: "Five"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 5;
+    };
+    return fn(obj.count);
+}
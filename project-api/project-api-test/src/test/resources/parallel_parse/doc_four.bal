@@ -0,0 +1,11 @@
+function docFour() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 4, name: "Four"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 4;
+    };
+    return fn(obj.count);
+}
@@ -0,0 +1,11 @@
+function docOne() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 1, name: "One"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 1;
+    };
+    return fn(obj.count);
+}
@@ -0,0 +1,11 @@
+function docSix() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 6, name: "Six"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 6;
+    };
+    return fn(obj.count);
+}
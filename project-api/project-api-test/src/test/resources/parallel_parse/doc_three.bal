@@ -0,0 +1,11 @@
+function docThree() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 3, name: "Three"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 3;
+    };
+    return fn(obj.count);
+}
@@ -0,0 +1,11 @@
+function docTwo() returns int {
+    oldFunction();
+    record {| int value; string name; |} rec = {value: 2, name: "Two"};
+    var fn = function (int x) returns int {
+        return x + rec.value;
+    };
+    object { int count; } obj = object {
+        int count = 2;
+    };
+    return fn(obj.count);
+}
@@ -0,0 +1,8 @@
+# This function is deprecated
+@deprecated
+public function oldFunction() {
+}
+
+public function main() {
+    int total = docOne() + docTwo() + docThree() + docFour() + docFive() + docSix();
+}
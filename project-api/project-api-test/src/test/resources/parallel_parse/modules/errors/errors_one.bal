@@ -0,0 +1,4 @@
+public function errorsOne() returns int {
+    int a = "one";
+    return a
+}
@@ -0,0 +1,4 @@
+public function errorsThree() {
+    boolean c = 3.0;
+    int d = ;
+}
@@ -0,0 +1,4 @@
+public function errorsTwo() returns string {
+    string b = 2;
+    return b
+}
@@ -0,0 +1,45 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+public function benchmarkBlockingInteropCalls(int warmupCount, int benchmarkCount) returns int {
+    _ = runBlockingCalls(warmupCount);
+
+    int startTime = nanoTime();
+    _ = runBlockingCalls(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function runBlockingCalls(int count) returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures.push(start sleepBlocking(1));
+        i += 1;
+    }
+    int slept = 0;
+    foreach future<int> f in futures {
+        int result = wait f;
+        slept += result;
+    }
+    return slept;
+}
+
+isolated function sleepBlocking(int millis) returns int = @java:Method {
+    name: "sleepBlocking",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
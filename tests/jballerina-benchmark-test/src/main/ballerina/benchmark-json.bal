@@ -0,0 +1,43 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkJsonStringToRecordArray(int warmupCount, int benchmarkCount) returns int {
+    Person[]|error warmupList = getPersonArray(warmupCount).toJsonString().fromJsonStringWithType(Person[]);
+
+    string jsonString = getPersonArray(benchmarkCount).toJsonString();
+    int startTime = nanoTime();
+    Person[]|error pl = jsonString.fromJsonStringWithType(Person[]);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonStringToJsonMapArray(int warmupCount, int benchmarkCount) returns int {
+    map<json>[]|error warmupList = getPersonArray(warmupCount).toJsonString().fromJsonStringWithType(map<json>[]);
+
+    string jsonString = getPersonArray(benchmarkCount).toJsonString();
+    int startTime = nanoTime();
+    map<json>[]|error ml = jsonString.fromJsonStringWithType(map<json>[]);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonStringToUnionMapArray(int warmupCount, int benchmarkCount) returns int {
+    map<int|string>[]|error warmupList =
+        getPersonArray(warmupCount).toJsonString().fromJsonStringWithType(map<int|string>[]);
+
+    string jsonString = getPersonArray(benchmarkCount).toJsonString();
+    int startTime = nanoTime();
+    map<int|string>[]|error ml = jsonString.fromJsonStringWithType(map<int|string>[]);
+    return (nanoTime() - startTime);
+}
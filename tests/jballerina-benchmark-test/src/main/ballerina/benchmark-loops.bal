@@ -543,3 +543,145 @@ public function benchmarkJoinWithForeach(int warmupCount, int benchmarkCount) re
     }
     return (nanoTime() - startTime);
 }
+
+public function benchmarkFilterWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    DeptPerson[] outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: ()
+        };
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: ()
+        };
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkLetWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    DeptPerson[] outputList =
+        from var person in pl
+        let string dept = "DeptName"
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept
+        };
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        let string dept = "DeptName"
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept
+        };
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOrderByWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl
+        order by person.id descending
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        order by person.id descending
+        select person;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkLimitWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl
+        limit warmupCount / 2
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        limit benchmarkCount / 2
+        select person;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOuterJoinWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Department[] dl = getDepartmentArray(warmupCount / 2);
+    DeptPerson[] outputList =
+        from var person in pl
+        outer join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+
+    pl = getPersonArray(benchmarkCount);
+    dl = getDepartmentArray(benchmarkCount / 2);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        outer join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOrderByWithLimitQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl.toStream()
+        order by person.id descending
+        limit 10
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl.toStream()
+        order by person.id descending
+        limit 10
+        select person;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkLimitWithQueryOnStream(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl.toStream()
+        limit 10
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl.toStream()
+        limit 10
+        select person;
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+public function benchmarkIntArraySort(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupArr = getIntArray(warmupCount);
+    _ = warmupArr.sort();
+
+    int[] arr = getIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = arr.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkFloatArraySort(int warmupCount, int benchmarkCount) returns int {
+    float[] warmupArr = getFloatArray(warmupCount);
+    _ = warmupArr.sort(array:DESCENDING);
+
+    float[] arr = getFloatArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = arr.sort(array:DESCENDING);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringArraySort(int warmupCount, int benchmarkCount) returns int {
+    string[] warmupArr = getStringArray(warmupCount);
+    _ = warmupArr.sort();
+
+    string[] arr = getStringArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = arr.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortWithIntKey(int warmupCount, int benchmarkCount) returns int {
+    string[] warmupArr = getStringArray(warmupCount);
+    _ = warmupArr.sort(array:ASCENDING, s => s.length());
+
+    string[] arr = getStringArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = arr.sort(array:ASCENDING, s => s.length());
+    return (nanoTime() - startTime);
+}
+
+function getIntArray(int size) returns int[] {
+    int[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push((i * 7919) % 1000003);
+    }
+    return arr;
+}
+
+function getFloatArray(int size) returns float[] {
+    float[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push(<float>((i * 7919) % 1000003) / 7.0);
+    }
+    return arr;
+}
+
+function getStringArray(int size) returns string[] {
+    string[] arr = [];
+    foreach int i in 0 ..< size {
+        arr.push("str" + ((i * 7919) % 1000003).toString());
+    }
+    return arr;
+}
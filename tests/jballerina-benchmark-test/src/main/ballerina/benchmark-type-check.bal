@@ -0,0 +1,71 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Named record {
+    string fname;
+    string lname;
+};
+
+type Identified record {
+    int id;
+};
+
+public function benchmarkStructuralTypeCheck(int warmupCount, int benchmarkCount) returns int {
+    _ = countStructuralMatches(getPersonArray(warmupCount));
+
+    Person[] pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = countStructuralMatches(pl);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStructuralCast(int warmupCount, int benchmarkCount) returns int {
+    _ = castToStructuralTypes(getPersonArray(warmupCount));
+
+    Person[] pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    _ = castToStructuralTypes(pl);
+    return (nanoTime() - startTime);
+}
+
+function countStructuralMatches(any[] values) returns int {
+    int matches = 0;
+    foreach any value in values {
+        if (value is Named) {
+            matches += 1;
+        }
+        if (value is Identified) {
+            matches += 1;
+        }
+        if (value is Department|DeptPerson) {
+            matches -= 1;
+        }
+        if (value is map<anydata>) {
+            matches += 1;
+        }
+    }
+    return matches;
+}
+
+function castToStructuralTypes(any[] values) returns int {
+    int length = 0;
+    foreach any value in values {
+        Named named = <Named>value;
+        Identified identified = <Identified>value;
+        length += named.fname.length() + identified.id;
+    }
+    return length;
+}
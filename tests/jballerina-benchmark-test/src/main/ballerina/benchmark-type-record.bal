@@ -0,0 +1,60 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Counter record {|
+   int id;
+   int count;
+   string name;
+|};
+
+public function benchmarkRecordFieldStore(int warmupCount, int benchmarkCount) returns int {
+    Counter counter = {id: 1, count: 0, name: "counter"};
+    _ = storeRecordFields(counter, warmupCount);
+
+    counter = {id: 1, count: 0, name: "counter"};
+    int startTime = nanoTime();
+    _ = storeRecordFields(counter, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordFieldLoad(int warmupCount, int benchmarkCount) returns int {
+    Counter counter = {id: 1, count: 0, name: "counter"};
+    _ = loadRecordFields(counter, warmupCount);
+
+    int startTime = nanoTime();
+    _ = loadRecordFields(counter, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function storeRecordFields(Counter counter, int count) returns int {
+    int i = 0;
+    while (i < count) {
+        counter.id = i;
+        counter.count = counter.count + 1;
+        i += 1;
+    }
+    return counter.count;
+}
+
+function loadRecordFields(Counter counter, int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        sum += counter.id + counter.count;
+        i += 1;
+    }
+    return sum;
+}
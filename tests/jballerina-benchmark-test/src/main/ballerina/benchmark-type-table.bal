@@ -0,0 +1,102 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type KeyedPerson record {|
+   readonly int id;
+   string fname;
+   string lname;
+|};
+
+public function benchmarkTablePut(int warmupCount, int benchmarkCount) returns int {
+    _ = getPersonTable(warmupCount);
+
+    int startTime = nanoTime();
+    _ = getPersonTable(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableGet(int warmupCount, int benchmarkCount) returns int {
+    table<KeyedPerson> key(id) warmupTable = getPersonTable(warmupCount);
+    _ = lookupPersons(warmupTable, warmupCount);
+
+    table<KeyedPerson> key(id) personTable = getPersonTable(benchmarkCount);
+    int startTime = nanoTime();
+    _ = lookupPersons(personTable, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableIterate(int warmupCount, int benchmarkCount) returns int {
+    table<KeyedPerson> key(id) warmupTable = getPersonTable(warmupCount);
+    _ = sumPersonIds(warmupTable);
+
+    table<KeyedPerson> key(id) personTable = getPersonTable(benchmarkCount);
+    int startTime = nanoTime();
+    _ = sumPersonIds(personTable);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableQueryWithKeyFilter(int warmupCount, int benchmarkCount) returns int {
+    table<KeyedPerson> key(id) warmupTable = getPersonTable(warmupCount);
+    _ = queryPersonsById(warmupTable);
+
+    table<KeyedPerson> key(id) personTable = getPersonTable(benchmarkCount);
+    int startTime = nanoTime();
+    _ = queryPersonsById(personTable);
+    return (nanoTime() - startTime);
+}
+
+function getPersonTable(int size) returns table<KeyedPerson> key(id) {
+    table<KeyedPerson> key(id) personTable = table [];
+    int i = 0;
+    while (i < size) {
+        personTable.put({id: i, fname: "FName", lname: "LName"});
+        i += 1;
+    }
+    return personTable;
+}
+
+function lookupPersons(table<KeyedPerson> key(id) personTable, int size) returns int {
+    int length = 0;
+    int i = 0;
+    while (i < size) {
+        KeyedPerson person = personTable.get(i);
+        length += person.fname.length();
+        i += 1;
+    }
+    return length;
+}
+
+function sumPersonIds(table<KeyedPerson> key(id) personTable) returns int {
+    int sum = 0;
+    foreach KeyedPerson person in personTable {
+        sum += person.id;
+    }
+    return sum;
+}
+
+function queryPersonsById(table<KeyedPerson> key(id) personTable) returns int {
+    int matches = 0;
+    int i = 0;
+    while (i < 100) {
+        KeyedPerson[] outputList =
+            from var person in personTable
+            where person.id == 42
+            select person;
+        matches += outputList.length();
+        i += 1;
+    }
+    return matches;
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkWorkerPingPong(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = workerPingPong(i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = workerPingPong(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function workerPingPong(int request) returns int {
+    worker ping returns int {
+        request -> pong;
+        int reply = <- pong;
+        return reply;
+    }
+
+    worker pong {
+        int received = <- ping;
+        (received + 1) -> ping;
+    }
+
+    return wait ping;
+}
+
+public function benchmarkWorkerChannelThroughput(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = workerChannelTransfer(i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = workerChannelTransfer(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function workerChannelTransfer(int value) returns int {
+    worker sender {
+        value -> receiver;
+        (value + 1) -> receiver;
+        (value + 2) -> receiver;
+        (value + 3) -> receiver;
+        (value + 4) -> receiver;
+        (value + 5) -> receiver;
+        (value + 6) -> receiver;
+        (value + 7) -> receiver;
+    }
+
+    worker receiver returns int {
+        int v1 = <- sender;
+        int v2 = <- sender;
+        int v3 = <- sender;
+        int v4 = <- sender;
+        int v5 = <- sender;
+        int v6 = <- sender;
+        int v7 = <- sender;
+        int v8 = <- sender;
+        return v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+    }
+
+    return wait receiver;
+}
@@ -34,8 +34,33 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkNestedLoopWithForeach", benchmarkNestedLoopWithForeach);
     addSingleExecFunction("benchmarkNestedLoopWithWhile", benchmarkNestedLoopWithWhile);
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
+    addSingleExecFunction("benchmarkOuterJoinWithQuery", benchmarkOuterJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkFilterWithQuery", benchmarkFilterWithQuery);
+    addSingleExecFunction("benchmarkLetWithQuery", benchmarkLetWithQuery);
+    addSingleExecFunction("benchmarkOrderByWithQuery", benchmarkOrderByWithQuery);
+    addSingleExecFunction("benchmarkLimitWithQuery", benchmarkLimitWithQuery);
+    addSingleExecFunction("benchmarkOrderByWithLimitQuery", benchmarkOrderByWithLimitQuery);
+    addSingleExecFunction("benchmarkLimitWithQueryOnStream", benchmarkLimitWithQueryOnStream);
+    addSingleExecFunction("benchmarkIntArraySort", benchmarkIntArraySort);
+    addSingleExecFunction("benchmarkFloatArraySort", benchmarkFloatArraySort);
+    addSingleExecFunction("benchmarkStringArraySort", benchmarkStringArraySort);
+    addSingleExecFunction("benchmarkArraySortWithIntKey", benchmarkArraySortWithIntKey);
+    addSingleExecFunction("benchmarkBlockingInteropCalls", benchmarkBlockingInteropCalls);
+    addSingleExecFunction("benchmarkWorkerPingPong", benchmarkWorkerPingPong);
+    addSingleExecFunction("benchmarkWorkerChannelThroughput", benchmarkWorkerChannelThroughput);
+    addSingleExecFunction("benchmarkStructuralTypeCheck", benchmarkStructuralTypeCheck);
+    addSingleExecFunction("benchmarkStructuralCast", benchmarkStructuralCast);
+    addSingleExecFunction("benchmarkTablePut", benchmarkTablePut);
+    addSingleExecFunction("benchmarkTableGet", benchmarkTableGet);
+    addSingleExecFunction("benchmarkTableIterate", benchmarkTableIterate);
+    addSingleExecFunction("benchmarkTableQueryWithKeyFilter", benchmarkTableQueryWithKeyFilter);
+    addSingleExecFunction("benchmarkRecordFieldStore", benchmarkRecordFieldStore);
+    addSingleExecFunction("benchmarkRecordFieldLoad", benchmarkRecordFieldLoad);
+    addSingleExecFunction("benchmarkJsonStringToRecordArray", benchmarkJsonStringToRecordArray);
+    addSingleExecFunction("benchmarkJsonStringToJsonMapArray", benchmarkJsonStringToJsonMapArray);
+    addSingleExecFunction("benchmarkJsonStringToUnionMapArray", benchmarkJsonStringToUnionMapArray);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +80,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -16,6 +16,7 @@
 
 package org.ballerinalang.benchmark.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ArrayType;
@@ -68,6 +69,18 @@ public class Utils {
         out.println(content);
     }
 
+    public static long sleepBlocking(Environment env, long millis) {
+        env.executeBlocking(() -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return millis;
+        });
+        return 0;
+    }
+
     public static BString sprintf(BString format, Object... args) {
         StringBuilder result = new StringBuilder();
         for (int i = 0, j, k = 0; i < format.length(); i++) {
@@ -87,7 +87,7 @@ public abstract class ExpressionEvaluationBaseTest extends DebugAdapterBaseTestC
         testProjectPath = Paths.get(testProjectBaseDir.toString(), testProjectName).toString();
         testEntryFilePath = Paths.get(testProjectPath, testModuleFileName).toString();
 
-        addBreakPoint(new BallerinaTestDebugPoint(testEntryFilePath, 182));
+        addBreakPoint(new BallerinaTestDebugPoint(testEntryFilePath, 187));
         initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
         Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo = waitForDebugHit(25000);
         this.context = debugHitInfo.getRight();
@@ -49,7 +49,7 @@ public class VariableVisibilityTest extends DebugAdapterBaseTestCase {
         testProjectPath = testProjectBaseDir.toString() + File.separator + testProjectName;
         testEntryFilePath = Paths.get(testProjectPath, testModuleFileName).toString();
 
-        addBreakPoint(new BallerinaTestDebugPoint(testEntryFilePath, 182));
+        addBreakPoint(new BallerinaTestDebugPoint(testEntryFilePath, 187));
         initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
         Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo = waitForDebugHit(25000);
 
@@ -98,6 +98,9 @@ public class VariableVisibilityTest extends DebugAdapterBaseTestCase {
         // string variable visibility test
         assertVariable(localVariables, "stringVar", "foo", "string");
 
+        // rope string variable visibility test
+        assertVariable(localVariables, "ropeStringVar", "0123456789".repeat(110), "string");
+
         // xml variable visibility test
         assertVariable(localVariables, "xmlVar",
                 "<person gender=\"male\"><firstname>Praveen</firstname><lastname>Nada</lastname></person>",
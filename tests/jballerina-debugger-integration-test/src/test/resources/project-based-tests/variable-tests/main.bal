@@ -120,6 +120,11 @@ public function main() {
     //------------------------ basic, sequence type variables ------------------------//
 
     string stringVar = "foo";
+    // strings longer than 1024 characters, which are built by concatenation, are kept as ropes
+    string ropeStringVar = "";
+    foreach int i in 0 ..< 110 {
+        ropeStringVar += "0123456789";
+    }
     xml xmlVar = xml `<person gender="male"><firstname>Praveen</firstname><lastname>Nada</lastname></person>`;
 
     //------------------------ basic, structured type variables ------------------------//
@@ -61,6 +61,8 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -75,6 +77,7 @@ public class StaticMethods {
     private static final BTupleType tupleType = new BTupleType(
             Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_STRING,
                           PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+    private static final CountDownLatch BLOCKING_CALL_GATE = new CountDownLatch(1);
 
     private StaticMethods() {
     }
@@ -502,6 +505,25 @@ public class StaticMethods {
                                               a.get(StringUtils.fromString("age")) + "#" + b);
     }
 
+    public static void waitForBlockingCallGate(Environment env, long id) {
+        CountDownLatch gate = BLOCKING_CALL_GATE;
+        env.executeBlocking(() -> {
+            try {
+                if (!gate.await(30, TimeUnit.SECONDS)) {
+                    return ErrorCreator.createError(StringUtils.fromString("blocking call gate is not opened"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorCreator.createError(e);
+            }
+            return id;
+        });
+    }
+
+    public static void openBlockingCallGate() {
+        BLOCKING_CALL_GATE.countDown();
+    }
+
     private static void sleep() {
         try {
             Thread.sleep(100);
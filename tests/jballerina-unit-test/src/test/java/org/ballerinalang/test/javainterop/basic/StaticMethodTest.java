@@ -168,7 +168,7 @@ public class StaticMethodTest {
     @DataProvider(name = "functionNamesProvider")
     public Object[] getFunctionNames() {
         return new String[]{"testBalEnvSlowAsyncVoidSig", "testBalEnvFastAsyncVoidSig", "testBalEnvSlowAsync",
-                "testBalEnvFastAsync", "testReturnNullString", "testReturnNotNullString", "testStaticResolve",
-                "testStringCast", "testGetCurrentModule"};
+                "testBalEnvFastAsync", "testBalEnvExecuteBlocking", "testReturnNullString", "testReturnNotNullString",
+                "testStaticResolve", "testStringCast", "testGetCurrentModule"};
     }
 }
@@ -114,6 +114,18 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause with mapping keys compared for value equality")
+    public void testJoinClauseWithMappingKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithMappingKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with int keys compared to float keys")
+    public void testJoinClauseWithNumericKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithNumericKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
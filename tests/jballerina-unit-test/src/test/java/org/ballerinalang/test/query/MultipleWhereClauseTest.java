@@ -18,6 +18,7 @@
 
 package org.ballerinalang.test.query;
 
+import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
@@ -87,4 +88,10 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals(person1.get("lastName").stringValue(), "Fonseka");
         Assert.assertEquals(((BFloat) person1.get("score")).floatValue(), 90.6);
     }
+
+    @Test(description = "Test where clauses on the fields of a table")
+    public void testWhereClauseOnTableFields() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereClauseOnTableFields");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
 }
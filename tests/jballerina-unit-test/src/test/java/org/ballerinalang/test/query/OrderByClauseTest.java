@@ -221,6 +221,15 @@ public class OrderByClauseTest {
         Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
     }
 
+    @Test(description = "Test query expr with order by and limit clauses having NaN and nil values")
+    public void testQueryExprWithOrderByAndLimitClauseHavingNaNNilValues() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClauseHavingNaNNilValues");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertEquals(returnValues.length, 1, "Expected events are not received");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test query expr with order by clause return string")
     public void testQueryExprWithOrderByClauseReturnString() {
         BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseReturnString");
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test the where, let, limit and do clauses of queries over streams which return an error
+ * part-way.
+ *
+ * @since 2.0.0
+ */
+public class QueryStreamErrorTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/query-stream-error.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @DataProvider(name = "functions")
+    public Object[][] functions() {
+        return new Object[][]{
+                {"testWhereLetWithStreamError"},
+                {"testWhereWithStreamErrorAfterFilteredFrames"},
+                {"testLimitBeforeStreamError"},
+                {"testLimitAfterStreamError"},
+                {"testWhereLetLimitWithStreamError"},
+                {"testDoWithStreamError"},
+                {"testDoWithLimitBeforeStreamError"}
+        };
+    }
+
+    @Test(description = "Test query clauses over a stream which returns an error part-way", dataProvider = "functions")
+    public void testQueryStreamError(String function) {
+        BValue[] returnValues = BRunUtil.invoke(result, function);
+        Assert.assertNotNull(returnValues);
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+}
@@ -25,6 +25,7 @@ import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.Map;
@@ -168,4 +169,19 @@ public class RecordValueTest {
         MapValue<String, Object> person = (MapValue<String, Object>) result;
         person.clear();
     }
+
+    @Test(dataProvider = "fieldAccessFunctions")
+    public void testRecordFieldAccess(String function) {
+        BRunUtil.invoke(compileResult, function);
+    }
+
+    @DataProvider(name = "fieldAccessFunctions")
+    public Object[][] fieldAccessFunctions() {
+        return new Object[][]{
+                {"testFieldAccessThroughTypeReference"},
+                {"testFieldAccessOfIncludedFields"},
+                {"testFieldAccessOfSubtypeValue"},
+                {"testFieldStoreOnReadonlyValue"}
+        };
+    }
 }
@@ -124,6 +124,33 @@ public function testBalEnvFastAsync() {
     test:assertEquals(3, added);
 }
 
+public function testBalEnvExecuteBlocking() {
+    future<int|error>[] futures = [];
+    foreach int i in 0 ..< 64 {
+        future<int|error> f = start waitForBlockingCallGate(i);
+        futures.push(f);
+    }
+
+    // The blocking calls do not hold the scheduler threads, hence other strands keep running
+    future<int> sum = start sumUpTo(1000);
+    int total = wait sum;
+    test:assertEquals(total, 500500);
+
+    openBlockingCallGate();
+    foreach int i in 0 ..< 64 {
+        int|error result = wait futures[i];
+        test:assertEquals(result, i);
+    }
+}
+
+function sumUpTo(int n) returns int {
+    int total = 0;
+    foreach int i in 1 ... n {
+        total += i;
+    }
+    return total;
+}
+
 public function testReturnNullString() {
     string concat = "some" + (returnNullString(true) ?: "");
     test:assertEquals("some", concat);
@@ -264,6 +291,14 @@ public function addTwoNumbersFastAsync(int a, int b) returns int = @java:Method
     'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
 } external;
 
+function waitForBlockingCallGate(int id) returns int|error = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
+function openBlockingCallGate() = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
 function getCurrentModule(int a) returns string  = @java:Method {
         'class: "org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
 } external;
@@ -439,3 +439,65 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+function testJoinClauseWithMappingKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 1, name:"Operations"};
+    Department d3 = {id: 2, name:"Engineering"};
+
+    Person[] personList = [p1, p2];
+    Department[] deptList = [d1, d2, d3];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on {id: person.id, kind: "dept"} equals {kind: "dept", id: dept.id}
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = true;
+    DeptPerson dp;
+    testPassed = testPassed && deptPersonList.length() == 3;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "Operations";
+    dp = deptPersonList[2];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Engineering";
+    return testPassed;
+}
+
+function testJoinClauseWithNumericKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    record {| float id; string name; |}[] deptList = [{id: 1.0, name: "HR"}, {id: 2.0, name: "Operations"},
+        {id: 3.0, name: "Engineering"}];
+
+    Person[] personList = [p1, p2];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on <anydata> person.id equals <anydata> dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = true;
+    DeptPerson dp;
+    testPassed = testPassed && deptPersonList.length() == 2;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+    return testPassed;
+}
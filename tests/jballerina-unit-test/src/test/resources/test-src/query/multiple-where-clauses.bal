@@ -84,3 +84,29 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    string name;
+|};
+
+function testWhereClauseOnTableFields() returns boolean {
+    table<Employee> key(id) employees = table [
+            {id: 1, dept: "HR", name: "Alex"},
+            {id: 2, dept: "Operations", name: "Ranjan"},
+            {id: 3, dept: "HR", name: "John"}
+        ];
+
+    string[] byKey = from var e in employees where e.id == 2 select e.name;
+    string[] byReadonlyField = from var e in employees where e.dept == "HR" select e.name;
+    string[] byMutableField = from var e in employees where e.name == "John" select e.name;
+
+    employees.add({id: 4, dept: "HR", name: "Anne"});
+    _ = employees.remove(1);
+    employees.put({id: 3, dept: "Operations", name: "John"});
+    string[] afterUpdate = from var e in employees where "HR" == e.dept select e.name;
+
+    return byKey == ["Ranjan"] && byReadonlyField == ["Alex", "John"] && byMutableField == ["John"] &&
+        afterUpdate == ["Anne"];
+}
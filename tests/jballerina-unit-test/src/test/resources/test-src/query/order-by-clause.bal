@@ -369,6 +369,52 @@ function testQueryExprWithOrderByClauseHavingNaNNilValues() returns boolean {
     return testPassed;
 }
 
+function testQueryExprWithOrderByAndLimitClauseHavingNaNNilValues() returns boolean {
+    boolean testPassed = true;
+
+    Employee e1 = {name: "Frank", address: {unitNo: 111, street: "Main Street"}, tokens: {one:1, two:2, three:3},
+    noOfShifts: [1, 2, 3]};
+    Employee e2 = {name: "James", address: {unitNo: 222, street: "Main Street"}, tokens: {one:11, two:(), three:3},
+    noOfShifts: [1, 2, 3]};
+    Employee e3 = {name: "James", address: {unitNo: 222, street: "Cross Street"}, tokens: {one:11, two:(0.0/0.0),
+    three:3}, noOfShifts: [1, 2, 3]};
+    Employee e4 = {name: "Frank", address: {unitNo: 111, street: "Cross Street"}, tokens: {one:11, two:4, three:3},
+    noOfShifts: [1, 2, 3]};
+    Employee e5 = {name: "Frank", address: {unitNo: 111, street: "Cross Street"}, tokens: {one:11, two:4, three:()},
+    noOfShifts: [1, 2, 3]};
+    Employee e6 = {name: "Frank", address: {unitNo: 111, street: "Cross Street"}, tokens: {one:12, two:4, three:3},
+    noOfShifts: [1, 2, 3]};
+    Employee e7 = {name: "Frank", address: {unitNo: 111, street: "Cross Street"}, tokens: {one:11, two:4, three:55},
+    noOfShifts: [1, 2, 3]};
+
+    Employee[] empList = [e1, e2, e3, e4, e5, e6, e7];
+
+    Employee[] opEmpList = from var emp in empList
+        order by emp.tokens["two"] descending, emp.tokens["three"] ascending
+        limit 4
+        select emp;
+
+    testPassed = testPassed &&  opEmpList.length() == 4;
+    testPassed = testPassed &&  opEmpList[0] ==  empList[3];
+    testPassed = testPassed &&  opEmpList[1] ==  empList[5];
+    testPassed = testPassed &&  opEmpList[2] ==  empList[6];
+    testPassed = testPassed &&  opEmpList[3] ==  empList[4];
+
+    opEmpList = from var emp in empList
+        order by emp.tokens["two"] ascending
+        limit 10
+        select emp;
+
+    testPassed = testPassed &&  opEmpList.length() == 7;
+    testPassed = testPassed &&  opEmpList[0] ==  empList[0];
+    testPassed = testPassed &&  opEmpList[1] ==  empList[3];
+    testPassed = testPassed &&  opEmpList[4] ==  empList[6];
+    testPassed = testPassed &&  opEmpList[5] ==  empList[2];
+    testPassed = testPassed &&  opEmpList[6] ==  empList[1];
+
+    return testPassed;
+}
+
 function testQueryExprWithOrderByClauseReturnString() returns string {
     Person p1 = {firstName: "Amy", lastName: "Melina", age: 34};
     Person p2 = {firstName: "Frank", lastName: "James", age: 30};
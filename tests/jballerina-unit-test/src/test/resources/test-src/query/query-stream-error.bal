@@ -0,0 +1,104 @@
+class NumberGeneratorWithError {
+    int i = 0;
+    int errorAt;
+
+    function init(int errorAt) {
+        self.errorAt = errorAt;
+    }
+
+    public isolated function next() returns record {|int value;|}|error? {
+        if (self.i == self.errorAt) {
+            return error("Error at " + self.i.toString());
+        }
+        self.i += 1;
+        return {value: self.i};
+    }
+}
+
+function collect(stream<int, error> strm) returns [int[], error?] {
+    int[] values = [];
+    record {|int value;|}|error? v = strm.next();
+    while (v is record {|int value;|}) {
+        values.push(v.value);
+        v = strm.next();
+    }
+    if (v is error) {
+        return [values, v];
+    }
+    return [values, ()];
+}
+
+function testWhereLetWithStreamError() returns boolean {
+    var numberStream = new stream<int, error>(new NumberGeneratorWithError(5));
+    stream<int, error> squareStream = from var num in numberStream
+                                      where num % 2 == 1
+                                      let int square = num * num
+                                      select square;
+    [int[], error?] [squares, err] = collect(squareStream);
+    return squares == [1, 9, 25] && err is error && err.message() == "Error at 5";
+}
+
+function testWhereWithStreamErrorAfterFilteredFrames() returns boolean {
+    var numberStream = new stream<int, error>(new NumberGeneratorWithError(6));
+    stream<int, error> bigNumberStream = from var num in numberStream
+                                         where num > 10
+                                         select num;
+    [int[], error?] [bigNumbers, err] = collect(bigNumberStream);
+    return bigNumbers.length() == 0 && err is error && err.message() == "Error at 6";
+}
+
+function testLimitBeforeStreamError() returns boolean {
+    NumberGeneratorWithError numGen = new (5);
+    var numberStream = new stream<int, error>(numGen);
+    int[]|error oddNumbers = from var num in numberStream
+                             where num % 2 == 1
+                             limit 2
+                             select num;
+    // The frames after the limit is reached are not consumed
+    return oddNumbers == [1, 3] && numGen.i == 3;
+}
+
+function testLimitAfterStreamError() returns boolean {
+    var numberStream = new stream<int, error>(new NumberGeneratorWithError(3));
+    int[]|error doubledNumbers = from var num in numberStream
+                                 let int doubled = num * 2
+                                 limit 5
+                                 select doubled;
+    return doubledNumbers is error && doubledNumbers.message() == "Error at 3";
+}
+
+function testWhereLetLimitWithStreamError() returns boolean {
+    var numberStream = new stream<int, error>(new NumberGeneratorWithError(8));
+    stream<int, error> resultStream = from var num in numberStream
+                                      where num % 2 == 0
+                                      let int half = num / 2
+                                      where half > 1
+                                      limit 10
+                                      select half;
+    [int[], error?] [halves, err] = collect(resultStream);
+    return halves == [2, 3, 4] && err is error && err.message() == "Error at 8";
+}
+
+function testDoWithStreamError() returns boolean {
+    var numberStream = new stream<int, error>(new NumberGeneratorWithError(4));
+    int sum = 0;
+    error? result = from var num in numberStream
+                    where num > 1
+                    let int tripled = num * 3
+                    do {
+                        sum += tripled;
+                    };
+    return result is error && result.message() == "Error at 4" && sum == 27;
+}
+
+function testDoWithLimitBeforeStreamError() returns boolean {
+    NumberGeneratorWithError numGen = new (4);
+    var numberStream = new stream<int, error>(numGen);
+    int[] numbers = [];
+    error? result = from var num in numberStream
+                    limit 3
+                    do {
+                        numbers.push(num);
+                    };
+    return result is () && numbers == [1, 2, 3] && numGen.i == 3;
+}
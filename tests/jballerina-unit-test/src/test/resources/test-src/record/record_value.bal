@@ -28,3 +28,85 @@ function getNewPerson() returns Person {
 	Person p = {name: "Jane", age: 25, spouse: "John", "gender": "female"};
 	return p;
 }
+
+type Address record {
+    string city;
+    int zip = 10000;
+};
+
+type Location Address;
+
+type Contact record {
+    *Address;
+    string phone;
+    readonly string id;
+};
+
+type Base record {
+    string name;
+};
+
+type Derived record {
+    string name;
+    int level;
+};
+
+function testFieldAccessThroughTypeReference() {
+    Location location = {city: "Colombo"};
+    location.zip = 10100;
+    location.city = location.city + " 3";
+    assertEquality("Colombo 3", location.city);
+    assertEquality(10100, location.zip);
+
+    Address address = location;
+    assertEquality("Colombo 3", address.city);
+    assertEquality(10100, address["zip"]);
+}
+
+function testFieldAccessOfIncludedFields() {
+    Contact contact = {city: "Kandy", phone: "0812", id: "c1", "note": "rest"};
+    contact.zip += 1;
+    contact.phone = "0813";
+    assertEquality(10001, contact.zip);
+    assertEquality("Kandy", contact.city);
+    assertEquality("0813", contact.phone);
+    assertEquality("c1", contact.id);
+    assertEquality("rest", contact["note"]);
+}
+
+function testFieldAccessOfSubtypeValue() {
+    // The value is not an instance of the value class of the static type
+    Derived derived = {name: "Anne", level: 2};
+    Base base = derived;
+    base.name = "Bob";
+    assertEquality("Bob", base.name);
+    assertEquality("Bob", derived.name);
+    assertEquality(2, base["level"]);
+}
+
+function testFieldStoreOnReadonlyValue() {
+    Contact & readonly frozen = {city: "Galle", phone: "091", id: "c2"};
+    Contact contact = frozen;
+    error? result = trap setZip(contact, 80000);
+    assertEquality(true, result is error);
+    assertEquality(10000, contact.zip);
+}
+
+function setZip(Contact contact, int zip) {
+    contact.zip = zip;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString () + "'");
+}